@@ -0,0 +1,34 @@
+package com.desafio.votacao.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemLoteVotoResponse {
+
+    private Integer indice;
+    private UUID sessaoId;
+    private String cpfMascarado;
+    private Status status;
+    private UUID votoId;
+    private String mensagem;
+
+    public enum Status {
+        REGISTRADO,
+        DUPLICADO,
+        INVALIDO,
+        SESSAO_NAO_ENCONTRADA,
+        SESSAO_FECHADA,
+        CPF_NAO_AUTORIZADO,
+        VALIDACAO_CPF_INDISPONIVEL
+    }
+}
@@ -0,0 +1,18 @@
+package com.desafio.votacao.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaPautasResponse {
+
+    private List<PautaResponse> itens;
+    private String proximoCursor; // nulo na última página
+}
@@ -0,0 +1,204 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Apuração em memória das sessões abertas.
+ * <p>
+ * Mantém um {@link Placar} por sessão com contadores {@link LongAdder} por opção,
+ * incrementados após o commit de cada voto. O banco continua sendo a fonte da verdade:
+ * os placares são reconstruídos na inicialização e reconciliados periodicamente com os
+ * totais de {@code apuracoes_sessao}. Votos de sessões que não estão sendo acompanhadas são ignorados e
+ * a leitura dessas sessões cai para a consulta no banco.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApuracaoEmTempoReal {
+
+    private final SessaoVotacaoRepository sessaoRepository;
+
+    private final Map<UUID, Placar> placares = new ConcurrentHashMap<>();
+
+    /**
+     * Em implantações com várias instâncias os contadores locais não são compartilhados;
+     * desabilite para ler sempre os totais materializados no banco.
+     */
+    @Value("${votacao.apuracao.em-memoria.enabled:true}")
+    private boolean habilitada;
+
+    /**
+     * Retorna o placar da sessão enquanto ela estiver dentro do prazo de votação.
+     * Após a data de fechamento o resultado passa a ser lido do banco.
+     */
+    public Optional<Placar> buscarPlacar(UUID sessaoId) {
+        if (!habilitada) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(placares.get(sessaoId))
+                .filter(placar -> LocalDateTime.now().isBefore(placar.getDataFechamento()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        if (!habilitada) {
+            return;
+        }
+        placares.putIfAbsent(event.sessaoId(), new Placar(event.sessaoId(), event.pautaId(),
+                event.tituloPauta(), event.dataAbertura(), event.dataFechamento()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotoRegistrado(VotoRegistradoEvent event) {
+        Placar placar = placares.get(event.sessaoId());
+        if (placar != null) {
+            placar.incrementar(event.opcao());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessoesEncerradas(SessoesEncerradasEvent event) {
+        event.sessaoIds().forEach(placares::remove);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        reconciliar();
+        log.info("Apuração em memória reconstruída para {} sessões abertas", placares.size());
+    }
+
+    /**
+     * Reconcilia os placares com os totais de {@code apuracoes_sessao} e passa a acompanhar
+     * sessões abertas em outras instâncias. Executa a cada minuto por padrão.
+     * <p>
+     * Os votos continuam chegando durante a consulta, então o placar não é sobrescrito: cada um é
+     * lido antes e depois da consulta e, se não mudou nesse intervalo, recebe a diferença entre o
+     * banco e a leitura anterior. Votos contados depois disso são preservados. Um placar que mudou
+     * durante a consulta fica para o próximo ciclo.
+     */
+    @Scheduled(fixedDelayString = "${votacao.apuracao.reconciliacao-ms:60000}",
+            initialDelayString = "${votacao.apuracao.reconciliacao-ms:60000}")
+    public void reconciliar() {
+        if (!habilitada) {
+            return;
+        }
+
+        Map<UUID, Map<OpcaoVoto, Long>> antes = new HashMap<>();
+        placares.forEach((id, placar) -> antes.put(id, placar.contagens()));
+
+        Set<UUID> acompanhadas = new HashSet<>();
+        int adiadas = 0;
+
+        for (ResultadoSessaoProjection sessao : sessaoRepository.buscarResultadosPorStatus(StatusSessao.ABERTA)) {
+            // Sessões sem apuração materializada continuam sendo lidas do banco
+            if (!sessao.possuiApuracao()) {
+                continue;
+            }
+            acompanhadas.add(sessao.sessaoId());
+            Map<OpcaoVoto, Long> banco = Map.of(OpcaoVoto.SIM, sessao.votosSim(), OpcaoVoto.NAO, sessao.votosNao());
+            Map<OpcaoVoto, Long> anterior = antes.get(sessao.sessaoId());
+
+            if (anterior == null) {
+                Placar novo = new Placar(sessao.sessaoId(), sessao.pautaId(),
+                        sessao.tituloPauta(), sessao.dataAbertura(), sessao.dataFechamento());
+                novo.ajustar(banco, novo.contagens());
+                // Aberta nesta instância durante a consulta: já está contando seus próprios votos
+                if (placares.putIfAbsent(sessao.sessaoId(), novo) != null) {
+                    adiadas++;
+                }
+                continue;
+            }
+
+            Placar placar = placares.get(sessao.sessaoId());
+            if (placar == null || !placar.contagens().equals(anterior)) {
+                adiadas++;
+                continue;
+            }
+            placar.ajustar(banco, anterior);
+        }
+
+        // Só descarta o que já era acompanhado antes da consulta; placares criados durante ela ficam
+        antes.keySet().stream()
+                .filter(id -> !acompanhadas.contains(id))
+                .forEach(placares::remove);
+
+        log.debug("Apuração em memória reconciliada: {} sessões abertas, {} adiadas para o próximo ciclo",
+                acompanhadas.size(), adiadas);
+    }
+
+    /**
+     * Placar de uma sessão aberta. Os dados da sessão são imutáveis enquanto ela está aberta.
+     */
+    @Getter
+    public static final class Placar {
+
+        private final UUID sessaoId;
+        private final UUID pautaId;
+        private final String tituloPauta;
+        private final LocalDateTime dataAbertura;
+        private final LocalDateTime dataFechamento;
+
+        @Getter(AccessLevel.NONE)
+        private final Map<OpcaoVoto, LongAdder> contadores = new EnumMap<>(OpcaoVoto.class);
+
+        Placar(UUID sessaoId, UUID pautaId, String tituloPauta,
+               LocalDateTime dataAbertura, LocalDateTime dataFechamento) {
+            this.sessaoId = sessaoId;
+            this.pautaId = pautaId;
+            this.tituloPauta = tituloPauta;
+            this.dataAbertura = dataAbertura;
+            this.dataFechamento = dataFechamento;
+            // O mapa é preenchido uma única vez e só os contadores mudam depois disso
+            for (OpcaoVoto opcao : OpcaoVoto.values()) {
+                contadores.put(opcao, new LongAdder());
+            }
+        }
+
+        public Map<OpcaoVoto, Long> contagens() {
+            Map<OpcaoVoto, Long> contagens = new EnumMap<>(OpcaoVoto.class);
+            contadores.forEach((opcao, contador) -> contagens.put(opcao, contador.sum()));
+            return contagens;
+        }
+
+        void incrementar(OpcaoVoto opcao) {
+            contadores.get(opcao).increment();
+        }
+
+        /**
+         * Soma a diferença entre o total do banco e a contagem lida antes dele, sem zerar os
+         * contadores: incrementos concorrentes não se perdem.
+         */
+        void ajustar(Map<OpcaoVoto, Long> banco, Map<OpcaoVoto, Long> anterior) {
+            contadores.forEach((opcao, contador) ->
+                    contador.add(banco.getOrDefault(opcao, 0L) - anterior.getOrDefault(opcao, 0L)));
+        }
+    }
+}
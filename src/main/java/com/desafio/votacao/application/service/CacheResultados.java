@@ -0,0 +1,46 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalidação do cache {@code resultados} guiada pelos eventos da sessão.
+ * <p>
+ * Enquanto a sessão está aberta cada voto confirmado descarta o resultado em cache (o TTL curto
+ * cobre os votos gravados por outras instâncias). No encerramento o resultado é descartado antes
+ * dos demais ouvintes, para que a próxima leitura, como o evento final de
+ * {@link TransmissaoResultados}, já traga a sessão fechada; a partir daí ele fica em cache sem
+ * expiração.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheResultados {
+
+    static final String CACHE = "resultados";
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotoRegistrado(VotoRegistradoEvent event) {
+        cache().evict(event.sessaoId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessoesEncerradas(SessoesEncerradasEvent event) {
+        Cache cache = cache();
+        event.sessaoIds().forEach(cache::evict);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE);
+    }
+}
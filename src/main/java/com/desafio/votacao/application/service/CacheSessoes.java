@@ -0,0 +1,56 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.repository.projection.SessaoSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache local dos snapshots de sessão usados no caminho do voto.
+ * <p>
+ * A linha da sessão só muda uma vez, quando o scheduler a encerra. Mesmo com um snapshot
+ * desatualizado (outra instância encerrou a sessão) o voto é barrado, porque
+ * {@link SessaoSnapshot#isAberta()} também confere a data de fechamento. A abertura popula o
+ * cache e o encerramento o invalida, ambos após o commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheSessoes {
+
+    static final String CACHE = "sessoes";
+
+    private final SessaoVotacaoRepository sessaoRepository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(value = CACHE, unless = "#result == null")
+    public Optional<SessaoSnapshot> buscar(UUID sessaoId) {
+        return sessaoRepository.findSnapshotById(sessaoId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        cache().put(event.sessaoId(), new SessaoSnapshot(event.sessaoId(), event.pautaId(),
+                event.dataFechamento(), StatusSessao.ABERTA));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessoesEncerradas(SessoesEncerradasEvent event) {
+        Cache cache = cache();
+        event.sessaoIds().forEach(cache::evict);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE);
+    }
+}
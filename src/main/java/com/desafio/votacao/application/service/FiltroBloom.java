@@ -0,0 +1,74 @@
+package com.desafio.votacao.application.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de CPFs (como {@code long}) seguro para escrita concorrente.
+ * <p>
+ * Dimensionado pela quantidade esperada de elementos e pela taxa de falso positivo desejada:
+ * {@code m = -n ln p / (ln 2)^2} bits e {@code k = m/n ln 2} funções de hash, derivadas de dois
+ * hashes de 64 bits por hashing duplo. Não há falsos negativos para elementos adicionados.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray palavras;
+    private final long totalBits;
+    private final int funcoesHash;
+
+    FiltroBloom(long elementosEsperados, double taxaFalsoPositivo) {
+        long n = Math.max(1, elementosEsperados);
+        long bits = (long) Math.ceil(-n * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int quantidadePalavras = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+
+        this.palavras = new AtomicLongArray(quantidadePalavras);
+        this.totalBits = (long) quantidadePalavras * 64;
+        this.funcoesHash = (int) Math.max(1, Math.round((double) totalBits / n * Math.log(2)));
+    }
+
+    void adicionar(long valor) {
+        long h1 = misturar(valor);
+        long h2 = misturar(h1) | 1;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = Math.floorMod(h1 + i * h2, totalBits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual = palavras.get(indice);
+            while ((atual & mascara) == 0 && !palavras.compareAndSet(indice, atual, atual | mascara)) {
+                atual = palavras.get(indice);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} se o valor certamente não foi adicionado
+     */
+    boolean talvezContenha(long valor) {
+        long h1 = misturar(valor);
+        long h2 = misturar(h1) | 1;
+        for (int i = 0; i < funcoesHash; i++) {
+            long bit = Math.floorMod(h1 + i * h2, totalBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long totalBits() {
+        return totalBits;
+    }
+
+    int funcoesHash() {
+        return funcoesHash;
+    }
+
+    // Finalizador de 64 bits do MurmurHash3
+    private static long misturar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xff51afd7ed558ccdL;
+        valor ^= valor >>> 33;
+        valor *= 0xc4ceb9fe1a85ec53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+}
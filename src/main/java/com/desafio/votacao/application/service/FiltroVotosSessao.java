@@ -0,0 +1,254 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.model.ApuracaoSessao;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.VotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Filtro de Bloom por sessão aberta com os CPFs que já votaram.
+ * <p>
+ * Uma resposta negativa dispensa a consulta de duplicidade e o voto segue direto para o insert;
+ * a constraint {@code uk_sessao_cpf} continua sendo a garantia final. Consultam o filtro o voto
+ * individual ({@link VotoService#registrarVoto}) e a gravação em lote ({@link GravadorLoteVotos}),
+ * sempre fora da transação de escrita; os CPFs entram nele pelo {@link VotoRegistradoEvent}, só
+ * depois do commit.
+ * <p>
+ * O filtro é criado vazio na abertura da sessão e descartado no encerramento. Sem filtro em
+ * memória (após um restart, por exemplo) ele é reconstruído a partir do banco em segundo plano,
+ * paginado pelo CPF; até terminar, as consultas respondem "talvez" e a duplicidade é conferida no
+ * banco como antes do filtro. Votos gravados por outra instância não entram no filtro local e são
+ * barrados pelo insert condicional.
+ */
+@Component
+@Slf4j
+public class FiltroVotosSessao {
+
+    // CPFs lidos por consulta na reconstrução: limita a memória e o tempo de cada SELECT
+    private static final int PAGINA_RECONSTRUCAO = 10_000;
+
+    private final VotoRepository votoRepository;
+    private final ApuracaoSessaoRepository apuracaoRepository;
+    private final Executor reconstrucao;
+    private final boolean habilitado;
+    private final long eleitoresEsperados;
+    private final double taxaFalsoPositivo;
+
+    private final Map<UUID, FiltroBloom> filtros = new ConcurrentHashMap<>();
+    private final Map<UUID, Reconstrucao> reconstrucoes = new ConcurrentHashMap<>();
+
+    private final Counter consultasNegativas;
+    private final Counter consultasPositivas;
+    private final Counter falsosPositivos;
+
+    @Autowired
+    public FiltroVotosSessao(VotoRepository votoRepository,
+                             ApuracaoSessaoRepository apuracaoRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${votacao.voto.filtro-duplicidade.enabled:true}") boolean habilitado,
+                             @Value("${votacao.voto.filtro-duplicidade.eleitores-esperados:100000}") long eleitoresEsperados,
+                             @Value("${votacao.voto.filtro-duplicidade.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        this(votoRepository, apuracaoRepository, meterRegistry, habilitado, eleitoresEsperados, taxaFalsoPositivo,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("reconstrucao-filtro-votos").daemon().factory()));
+    }
+
+    FiltroVotosSessao(VotoRepository votoRepository,
+                      ApuracaoSessaoRepository apuracaoRepository,
+                      MeterRegistry meterRegistry,
+                      boolean habilitado,
+                      long eleitoresEsperados,
+                      double taxaFalsoPositivo,
+                      Executor reconstrucao) {
+        this.votoRepository = votoRepository;
+        this.apuracaoRepository = apuracaoRepository;
+        this.reconstrucao = reconstrucao;
+        this.habilitado = habilitado;
+        this.eleitoresEsperados = eleitoresEsperados;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+
+        this.consultasNegativas = Counter.builder("votacao.voto.filtro.consultas")
+                .description("Consultas ao filtro de duplicidade de votos")
+                .tag("resultado", "negativo")
+                .register(meterRegistry);
+        this.consultasPositivas = Counter.builder("votacao.voto.filtro.consultas")
+                .description("Consultas ao filtro de duplicidade de votos")
+                .tag("resultado", "positivo")
+                .register(meterRegistry);
+        this.falsosPositivos = Counter.builder("votacao.voto.filtro.falsos.positivos")
+                .description("Respostas positivas do filtro em que o banco não tinha o voto")
+                .register(meterRegistry);
+        Gauge.builder("votacao.voto.filtro.taxa.falso.positivo", this, FiltroVotosSessao::taxaFalsoPositivoObservada)
+                .description("Falsos positivos sobre o total de CPFs que ainda não haviam votado")
+                .register(meterRegistry);
+        Gauge.builder("votacao.voto.filtro.sessoes", filtros, Map::size)
+                .description("Sessões com filtro de duplicidade em memória")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code false} se o CPF certamente ainda não votou na sessão; {@code true} se pode
+     * ter votado e a duplicidade precisa ser confirmada no banco
+     */
+    public boolean talvezJaVotou(UUID sessaoId, Cpf cpf) {
+        return consultar(sessaoId, cpf, true);
+    }
+
+    /**
+     * Variante para quem não precisa de resposta sem o filtro: sem filtro da sessão em memória
+     * (desabilitado ou em reconstrução) responde {@code false} e a duplicidade fica com o insert.
+     *
+     * @return {@code true} somente se o filtro da sessão respondeu positivo para o CPF
+     */
+    public boolean filtroIndicaVoto(UUID sessaoId, Cpf cpf) {
+        return consultar(sessaoId, cpf, false);
+    }
+
+    private boolean consultar(UUID sessaoId, Cpf cpf, boolean semFiltro) {
+        if (!habilitado) {
+            return semFiltro;
+        }
+
+        FiltroBloom filtro = filtros.get(sessaoId);
+        if (filtro == null) {
+            // Não contabilizado nas métricas: a resposta não vem do filtro
+            reconstruir(sessaoId);
+            return semFiltro;
+        }
+
+        boolean positivo = filtro.talvezContenha(cpf.valor());
+        (positivo ? consultasPositivas : consultasNegativas).increment();
+        return positivo;
+    }
+
+    /**
+     * Registra que o filtro respondeu positivo para um CPF que o banco confirmou não ter votado.
+     * Ignorado se a sessão não tem filtro em memória, caso em que a resposta não veio dele.
+     */
+    public void registrarFalsoPositivo(UUID sessaoId) {
+        if (filtros.containsKey(sessaoId)) {
+            falsosPositivos.increment();
+        }
+    }
+
+    /**
+     * Adiciona o CPF ao filtro da sessão depois do commit do voto: um voto desfeito nunca entra no
+     * filtro. Sem filtro da sessão em memória nada é feito; a reconstrução lê o voto do banco.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotoRegistrado(VotoRegistradoEvent event) {
+        // Reconstrução antes do mapa: ela publica o filtro no mapa e só depois deixa de existir
+        Reconstrucao emAndamento = reconstrucoes.get(event.sessaoId());
+        FiltroBloom filtro = emAndamento != null ? emAndamento.filtro : filtros.get(event.sessaoId());
+        if (filtro != null) {
+            filtro.adicionar(event.cpf().valor());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        if (habilitado) {
+            filtros.putIfAbsent(event.sessaoId(), new FiltroBloom(eleitoresEsperados, taxaFalsoPositivo));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessoesEncerradas(SessoesEncerradasEvent event) {
+        event.sessaoIds().forEach(sessaoId -> {
+            // Primeiro a reconstrução: se ela ainda não publicou o filtro, não publica mais
+            reconstrucoes.remove(sessaoId);
+            filtros.remove(sessaoId);
+        });
+    }
+
+    @PreDestroy
+    void parar() {
+        if (reconstrucao instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void reconstruir(UUID sessaoId) {
+        Reconstrucao nova = new Reconstrucao();
+        if (reconstrucoes.putIfAbsent(sessaoId, nova) != null) {
+            return;
+        }
+        try {
+            reconstrucao.execute(() -> reconstruir(sessaoId, nova));
+        } catch (RejectedExecutionException e) {
+            reconstrucoes.remove(sessaoId, nova);
+        }
+    }
+
+    /**
+     * Lê os CPFs da sessão em páginas (keyset sobre {@code uk_sessao_cpf}), cada uma na sua própria
+     * consulta, e só então publica o filtro. Votos confirmados durante a leitura entram pelo
+     * {@link #onVotoRegistrado}, já que o filtro fica visível a ele antes da primeira página.
+     */
+    private void reconstruir(UUID sessaoId, Reconstrucao andamento) {
+        try {
+            long votos = apuracaoRepository.findById(sessaoId).map(ApuracaoSessao::getTotalVotos).orElse(0L);
+            andamento.filtro = new FiltroBloom(Math.max(eleitoresEsperados, votos * 2), taxaFalsoPositivo);
+
+            long ultimo = -1;
+            long lidos = 0;
+            List<Long> pagina;
+            do {
+                pagina = votoRepository.findValoresCpfBySessao(sessaoId, ultimo, Limit.of(PAGINA_RECONSTRUCAO));
+                for (long cpf : pagina) {
+                    andamento.filtro.adicionar(cpf);
+                }
+                if (!pagina.isEmpty()) {
+                    ultimo = pagina.getLast();
+                    lidos += pagina.size();
+                }
+            } while (pagina.size() == PAGINA_RECONSTRUCAO && reconstrucoes.get(sessaoId) == andamento);
+
+            // Publica só se a sessão não foi encerrada durante a leitura (onSessoesEncerradas remove a reconstrução)
+            long total = lidos;
+            reconstrucoes.computeIfPresent(sessaoId, (id, atual) -> {
+                if (atual != andamento) {
+                    return atual;
+                }
+                filtros.putIfAbsent(id, andamento.filtro);
+                log.info("Filtro de duplicidade reconstruído - Sessão: {}, Votos: {}", id, total);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            reconstrucoes.remove(sessaoId, andamento);
+            log.warn("Falha ao reconstruir o filtro de duplicidade da sessão {}", sessaoId, e);
+        }
+    }
+
+    private double taxaFalsoPositivoObservada() {
+        double falsos = falsosPositivos.count();
+        double novos = consultasNegativas.count() + falsos;
+        return novos == 0 ? 0 : falsos / novos;
+    }
+
+    private static final class Reconstrucao {
+        volatile FiltroBloom filtro;
+    }
+}
@@ -0,0 +1,225 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.infrastructure.persistence.UuidV7Generator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Grava votos já validados em lote: uma consulta IN por sessão para detectar duplicados
+ * (restrita aos CPFs que o {@link FiltroVotosSessao} não descarta), o mesmo insert condicional
+ * do voto individual ({@link VotoRepository#INSERIR_SE_SESSAO_ABERTA}) em batch JDBC e um único
+ * commit para o lote.
+ * <p>
+ * A sessão é conferida no momento da gravação: um voto que esperou na fila além do prazo, ou
+ * cuja sessão foi encerrada depois da validação, não é gravado e volta como
+ * {@link Situacao#SESSAO_FECHADA}. Um insert descartado pela unicidade (outro voto do mesmo CPF
+ * gravado depois da verificação) volta como {@link Situacao#DUPLICADO}. As cópias de um CPF repetido
+ * no próprio lote seguem a primeira: fechada se ela foi recusada pela sessão, duplicadas nos demais casos.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GravadorLoteVotos {
+
+    // Mantém a quantidade de parâmetros do IN bem abaixo do limite dos drivers
+    private static final int TAMANHO_MAXIMO_IN = 1000;
+
+    private final VotoRepository votoRepository;
+    private final ApuracaoSessaoRepository apuracaoRepository;
+    private final FiltroVotosSessao filtroVotos;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return um item por voto pendente, na mesma ordem da entrada
+     */
+    public List<VotoGravado> gravar(List<VotoPendente> pendentes) {
+        VotoGravado[] gravados = new VotoGravado[pendentes.size()];
+        int[] primeiraCopia = new int[pendentes.size()];
+        List<Integer> indices = filtrarDuplicados(pendentes, primeiraCopia);
+
+        if (!indices.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> gravarEmLote(pendentes, indices, gravados));
+            log.debug("Lote de {} votos gravado", indices.size());
+        }
+
+        // Os votos fora de indices já constavam no banco ou se repetiam no próprio lote; a primeira
+        // cópia vem antes no lote, então já está resolvida quando a repetição é alcançada
+        for (int i = 0; i < pendentes.size(); i++) {
+            if (primeiraCopia[i] != i) {
+                gravados[i] = gravados[primeiraCopia[i]].situacao() == Situacao.SESSAO_FECHADA
+                        ? VotoGravado.sessaoFechada(pendentes.get(i))
+                        : VotoGravado.duplicado(pendentes.get(i));
+            } else if (gravados[i] == null) {
+                gravados[i] = VotoGravado.duplicado(pendentes.get(i));
+            }
+        }
+        return List.of(gravados);
+    }
+
+    /**
+     * Retorna os índices dos votos que ainda não existem no banco nem se repetem no próprio lote e
+     * preenche {@code primeiraCopia} com o índice da primeira ocorrência do CPF na sessão.
+     */
+    private List<Integer> filtrarDuplicados(List<VotoPendente> pendentes, int[] primeiraCopia) {
+        Map<UUID, Map<Cpf, Integer>> cpfsPorSessao = new LinkedHashMap<>();
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < pendentes.size(); i++) {
+            VotoPendente pendente = pendentes.get(i);
+            Integer primeira = cpfsPorSessao.computeIfAbsent(pendente.sessaoId(), id -> new HashMap<>())
+                    .putIfAbsent(pendente.cpf(), i);
+            primeiraCopia[i] = primeira == null ? i : primeira;
+            if (primeira == null) {
+                indices.add(i);
+            }
+        }
+
+        Map<UUID, Set<Cpf>> jaVotaram = new LinkedHashMap<>();
+        cpfsPorSessao.forEach((sessaoId, cpfs) -> jaVotaram.put(sessaoId, buscarCpfsQueJaVotaram(sessaoId, cpfs.keySet())));
+
+        indices.removeIf(i -> jaVotaram.get(pendentes.get(i).sessaoId()).contains(pendentes.get(i).cpf()));
+        return indices;
+    }
+
+    private Set<Cpf> buscarCpfsQueJaVotaram(UUID sessaoId, Set<Cpf> cpfs) {
+        List<Cpf> suspeitos = cpfs.stream()
+                .filter(cpf -> filtroVotos.talvezJaVotou(sessaoId, cpf))
+                .toList();
+
+        Set<Cpf> jaVotaram = consultarCpfsQueJaVotaram(sessaoId, suspeitos);
+
+        for (int i = jaVotaram.size(); i < suspeitos.size(); i++) {
+            filtroVotos.registrarFalsoPositivo(sessaoId);
+        }
+        return jaVotaram;
+    }
+
+    private Set<Cpf> consultarCpfsQueJaVotaram(UUID sessaoId, List<Cpf> cpfs) {
+        Set<Cpf> jaVotaram = new HashSet<>();
+        for (int inicio = 0; inicio < cpfs.size(); inicio += TAMANHO_MAXIMO_IN) {
+            List<Cpf> bloco = cpfs.subList(inicio, Math.min(inicio + TAMANHO_MAXIMO_IN, cpfs.size()));
+            jaVotaram.addAll(votoRepository.findCpfsQueJaVotaram(sessaoId, bloco));
+        }
+        return jaVotaram;
+    }
+
+    private void gravarEmLote(List<VotoPendente> pendentes, List<Integer> indices, VotoGravado[] gravados) {
+        LocalDateTime dataHora = LocalDateTime.now();
+        UUID[] ids = new UUID[indices.size()];
+        SqlParameterSource[] parametros = new SqlParameterSource[indices.size()];
+        for (int j = 0; j < indices.size(); j++) {
+            VotoPendente pendente = pendentes.get(indices.get(j));
+            ids[j] = UuidV7Generator.gerar();
+            parametros[j] = new MapSqlParameterSource()
+                    .addValue("id", ids[j])
+                    .addValue("sessaoId", pendente.sessaoId())
+                    .addValue("cpf", pendente.cpf().valor())
+                    .addValue("opcao", pendente.opcao().name())
+                    .addValue("dataHora", dataHora);
+        }
+
+        int[] inseridos = jdbcTemplate.batchUpdate(VotoRepository.INSERIR_SE_SESSAO_ABERTA, parametros);
+
+        // Um UPDATE por sessão, sempre na mesma ordem para evitar deadlock entre lotes concorrentes
+        Map<UUID, long[]> incrementos = new TreeMap<>();
+        Map<UUID, List<Integer>> inseridosPorSessao = new LinkedHashMap<>();
+        Map<UUID, List<Integer>> rejeitados = new LinkedHashMap<>();
+        for (int j = 0; j < indices.size(); j++) {
+            int i = indices.get(j);
+            VotoPendente pendente = pendentes.get(i);
+            if (inseridos[j] == 0) {
+                rejeitados.computeIfAbsent(pendente.sessaoId(), id -> new ArrayList<>()).add(i);
+                continue;
+            }
+            long[] incremento = incrementos.computeIfAbsent(pendente.sessaoId(), id -> new long[2]);
+            incremento[pendente.opcao() == OpcaoVoto.SIM ? 0 : 1]++;
+            inseridosPorSessao.computeIfAbsent(pendente.sessaoId(), id -> new ArrayList<>()).add(i);
+            gravados[i] = new VotoGravado(pendente, ids[j], dataHora, Situacao.REGISTRADO);
+        }
+        incrementos.forEach((sessaoId, incremento) -> {
+            if (apuracaoRepository.incrementar(sessaoId, incremento[0] + incremento[1], incremento[0], incremento[1]) == 0) {
+                desfazerVotosDeApuracaoFinalizada(sessaoId, inseridosPorSessao.get(sessaoId), gravados);
+            }
+        });
+
+        // O insert não diz o motivo: os CPFs que já constam na sessão são duplicados, os demais chegaram com a sessão fechada
+        rejeitados.forEach((sessaoId, indicesRejeitados) -> {
+            Set<Cpf> jaVotaram = consultarCpfsQueJaVotaram(sessaoId,
+                    indicesRejeitados.stream().map(i -> pendentes.get(i).cpf()).toList());
+            for (int i : indicesRejeitados) {
+                VotoPendente pendente = pendentes.get(i);
+                gravados[i] = jaVotaram.contains(pendente.cpf())
+                        ? VotoGravado.duplicado(pendente)
+                        : VotoGravado.sessaoFechada(pendente);
+            }
+            log.warn("{} votos do lote não gravados na sessão {}", indicesRejeitados.size(), sessaoId);
+        });
+
+        // Apuração em memória e filtro de duplicidade são atualizados somente após o commit
+        for (int i : indices) {
+            VotoPendente pendente = pendentes.get(i);
+            if (gravados[i].situacao() == Situacao.REGISTRADO) {
+                eventPublisher.publishEvent(new VotoRegistradoEvent(pendente.sessaoId(), pendente.cpf(), pendente.opcao()));
+            }
+        }
+    }
+
+    /**
+     * A apuração foi finalizada entre o insert e o incremento: os votos da sessão não entrariam no
+     * resultado, então são removidos na mesma transação, sem afetar as demais sessões do lote.
+     */
+    private void desfazerVotosDeApuracaoFinalizada(UUID sessaoId, List<Integer> indicesSessao, VotoGravado[] gravados) {
+        List<UUID> ids = indicesSessao.stream().map(i -> gravados[i].id()).toList();
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_MAXIMO_IN) {
+            votoRepository.deleteBySessaoAndIds(sessaoId, ids.subList(inicio, Math.min(inicio + TAMANHO_MAXIMO_IN, ids.size())));
+        }
+        for (int i : indicesSessao) {
+            gravados[i] = VotoGravado.sessaoFechada(gravados[i].pendente());
+        }
+        log.warn("Apuração da sessão {} finalizada durante a gravação: {} votos do lote desfeitos",
+                sessaoId, indicesSessao.size());
+    }
+
+    public enum Situacao {
+        REGISTRADO,
+        DUPLICADO,
+        SESSAO_FECHADA
+    }
+
+    /**
+     * Resultado da gravação de um voto; {@code id} e {@code dataHora} só existem quando o voto foi registrado.
+     */
+    public record VotoGravado(VotoPendente pendente, UUID id, LocalDateTime dataHora, Situacao situacao) {
+
+        static VotoGravado duplicado(VotoPendente pendente) {
+            return new VotoGravado(pendente, null, null, Situacao.DUPLICADO);
+        }
+
+        static VotoGravado sessaoFechada(VotoPendente pendente) {
+            return new VotoGravado(pendente, null, null, Situacao.SESSAO_FECHADA);
+        }
+    }
+}
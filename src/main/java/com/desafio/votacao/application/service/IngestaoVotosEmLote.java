@@ -0,0 +1,177 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.exception.IngestaoSobrecarregadaException;
+import com.desafio.votacao.domain.exception.SessaoFechadaException;
+import com.desafio.votacao.domain.exception.VotoJaRegistradoException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modo de ingestão com group commit (habilitado por {@code votacao.voto.ingestao.lote.enabled}).
+ * <p>
+ * As validações de sessão e CPF rodam na thread da requisição; o voto validado entra em uma
+ * fila limitada e uma única thread escritora grava lotes de até {@code tamanho} votos ou o que
+ * tiver chegado em {@code espera-maxima-ms}. O future de cada chamador é completado quando o
+ * lote dele é confirmado. Com a fila cheia a requisição é rejeitada em vez de enfileirada.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.voto.ingestao.lote.enabled", havingValue = "true")
+@Slf4j
+public class IngestaoVotosEmLote {
+
+    private final VotoService votoService;
+    private final GravadorLoteVotos gravador;
+    private final int tamanhoLote;
+    private final long esperaMaximaNanos;
+    private final int capacidadeFila;
+    private final BlockingQueue<PedidoVoto> fila;
+
+    private volatile boolean ativa = true;
+    private Thread escritor;
+
+    public IngestaoVotosEmLote(VotoService votoService,
+                               GravadorLoteVotos gravador,
+                               @Value("${votacao.voto.ingestao.lote.tamanho:100}") int tamanhoLote,
+                               @Value("${votacao.voto.ingestao.lote.espera-maxima-ms:10}") long esperaMaximaMs,
+                               @Value("${votacao.voto.ingestao.lote.capacidade-fila:10000}") int capacidadeFila) {
+        this.votoService = votoService;
+        this.gravador = gravador;
+        this.tamanhoLote = tamanhoLote;
+        this.esperaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+        this.capacidadeFila = capacidadeFila;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+    }
+
+    public CompletableFuture<VotoResponse> registrar(RegistrarVotoRequest request) {
+        VotoPendente voto = votoService.prepararVoto(request);
+
+        PedidoVoto pedido = new PedidoVoto(voto, new CompletableFuture<>());
+        if (!ativa) {
+            throw encerrada();
+        }
+        if (!fila.offer(pedido)) {
+            log.warn("Fila de ingestão cheia, voto rejeitado - Sessão: {}", voto.sessaoId());
+            throw new IngestaoSobrecarregadaException(capacidadeFila);
+        }
+        // parar() pode ter começado entre a checagem e o offer: se o pedido ainda está na fila, ninguém
+        // o retirou e ele é recusado aqui; se já foi retirado, o escritor ou parar() completa o future
+        if (!ativa && fila.remove(pedido)) {
+            throw encerrada();
+        }
+        return pedido.resultado();
+    }
+
+    @PostConstruct
+    void iniciar() {
+        escritor = Thread.ofPlatform().name("ingestao-votos").daemon().start(this::executar);
+        log.info("Ingestão de votos em lote iniciada - Lote: {}, Espera máxima: {}ms, Fila: {}",
+                tamanhoLote, TimeUnit.NANOSECONDS.toMillis(esperaMaximaNanos), capacidadeFila);
+    }
+
+    /**
+     * Para de aceitar votos e aguarda a gravação do que já está na fila. O que restar depois que o
+     * escritor termina (pedido que entrou na corrida com o encerramento ou escritor interrompido)
+     * é completado com erro, para nenhum chamador esperar para sempre.
+     */
+    @PreDestroy
+    void parar() throws InterruptedException {
+        ativa = false;
+        escritor.join(TimeUnit.SECONDS.toMillis(30));
+        if (escritor.isAlive()) {
+            escritor.interrupt();
+            escritor.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        falharPendentes(new ArrayList<>());
+    }
+
+    private void executar() {
+        List<PedidoVoto> lote = new ArrayList<>(tamanhoLote);
+
+        while (ativa || !fila.isEmpty()) {
+            try {
+                PedidoVoto primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+
+                long prazo = System.nanoTime() + esperaMaximaNanos;
+                while (lote.size() < tamanhoLote) {
+                    if (fila.drainTo(lote, tamanhoLote - lote.size()) > 0) {
+                        continue;
+                    }
+                    long restante = prazo - System.nanoTime();
+                    PedidoVoto proximo = restante > 0 ? fila.poll(restante, TimeUnit.NANOSECONDS) : null;
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                falharPendentes(lote);
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<PedidoVoto> lote) {
+        try {
+            List<GravadorLoteVotos.VotoGravado> gravados = gravador.gravar(
+                    lote.stream().map(PedidoVoto::voto).toList());
+
+            for (int i = 0; i < lote.size(); i++) {
+                PedidoVoto pedido = lote.get(i);
+                GravadorLoteVotos.VotoGravado gravado = gravados.get(i);
+                switch (gravado.situacao()) {
+                    case REGISTRADO -> pedido.resultado().complete(
+                            votoService.toResponse(pedido.voto(), gravado.id(), gravado.dataHora()));
+                    case DUPLICADO -> pedido.resultado().completeExceptionally(
+                            new VotoJaRegistradoException(pedido.voto().cpf(), pedido.voto().sessaoId()));
+                    case SESSAO_FECHADA -> pedido.resultado().completeExceptionally(
+                            new SessaoFechadaException(pedido.voto().sessaoId()));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar lote de {} votos", lote.size(), e);
+            lote.forEach(pedido -> pedido.resultado().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Completa com erro os pedidos do lote em formação e os que ainda estão na fila.
+     */
+    private void falharPendentes(List<PedidoVoto> pendentes) {
+        fila.drainTo(pendentes);
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        log.warn("Ingestão encerrada com {} votos não gravados", pendentes.size());
+        IngestaoSobrecarregadaException erro = encerrada();
+        pendentes.forEach(pedido -> pedido.resultado().completeExceptionally(erro));
+    }
+
+    private static IngestaoSobrecarregadaException encerrada() {
+        return new IngestaoSobrecarregadaException("Ingestão de votos encerrada. Tente novamente em instantes");
+    }
+
+    private record PedidoVoto(VotoPendente voto, CompletableFuture<VotoResponse> resultado) {
+    }
+}
@@ -1,25 +1,33 @@
 package com.desafio.votacao.application.service;
 
 import com.desafio.votacao.application.dto.request.CriarPautaRequest;
+import com.desafio.votacao.application.dto.response.PaginaPautasResponse;
 import com.desafio.votacao.application.dto.response.PautaResponse;
 import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
 import com.desafio.votacao.domain.exception.PautaNaoEncontradaException;
 import com.desafio.votacao.domain.model.Pauta;
+import com.desafio.votacao.domain.model.StatusSessao;
 import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.projection.PautaResumoProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PautaService {
 
+    static final int TAMANHO_MAXIMO_PAGINA = 200;
+
     private final PautaRepository pautaRepository;
 
     @Transactional
@@ -42,41 +50,90 @@ public class PautaService {
     public PautaResponse buscarPorId(UUID id) {
         log.info("Buscando pauta por ID: {}", id);
 
-        Pauta pauta = pautaRepository.findById(id)
+        PautaResumoProjection pauta = pautaRepository.findResumoById(id)
                 .orElseThrow(() -> new PautaNaoEncontradaException(id));
 
         return toResponse(pauta);
     }
 
+    /**
+     * Lista uma página de pautas, das mais recentes para as mais antigas, com uma única consulta.
+     *
+     * @param status filtra pelo status da sessão; nulo lista todas
+     * @param cursor {@code proximoCursor} da página anterior; nulo na primeira página
+     */
     @Transactional(readOnly = true)
-    public List<PautaResponse> listarTodas() {
-        log.info("Listando todas as pautas");
+    public PaginaPautasResponse listar(StatusSessao status, String cursor, int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+        log.info("Listando pautas - Status: {}, Tamanho: {}", status, tamanho);
+
+        Cursor inicio = cursor == null ? new Cursor(null, null) : Cursor.decodificar(cursor);
 
-        return pautaRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        // Um item a mais indica se existe próxima página
+        List<PautaResumoProjection> pautas = pautaRepository.listarPagina(status, inicio.dataCriacao(), inicio.id(),
+                Limit.of(tamanho + 1));
+        boolean haMais = pautas.size() > tamanho;
+        List<PautaResumoProjection> pagina = haMais ? pautas.subList(0, tamanho) : pautas;
+
+        PautaResumoProjection ultima = pagina.isEmpty() ? null : pagina.get(pagina.size() - 1);
+        return PaginaPautasResponse.builder()
+                .itens(pagina.stream().map(this::toResponse).toList())
+                .proximoCursor(haMais ? new Cursor(ultima.dataCriacao(), ultima.id()).codificar() : null)
+                .build();
     }
 
-    private PautaResponse toResponse(Pauta pauta) {
-        SessaoVotacaoResponse sessaoResponse = null;
-
-        if (pauta.getSessaoVotacao() != null) {
-            sessaoResponse = SessaoVotacaoResponse.builder()
-                    .id(pauta.getSessaoVotacao().getId())
-                    .pautaId(pauta.getId())
-                    .dataAbertura(pauta.getSessaoVotacao().getDataAbertura())
-                    .dataFechamento(pauta.getSessaoVotacao().getDataFechamento())
-                    .status(pauta.getSessaoVotacao().getStatus())
-                    .duracaoSegundos(pauta.getSessaoVotacao().getDuracaoSegundos())
-                    .build();
-        }
+    private PautaResponse toResponse(PautaResumoProjection pauta) {
+        SessaoVotacaoResponse sessaoResponse = !pauta.possuiSessao() ? null : SessaoVotacaoResponse.builder()
+                .id(pauta.sessaoId())
+                .pautaId(pauta.id())
+                .dataAbertura(pauta.dataAbertura())
+                .dataFechamento(pauta.dataFechamento())
+                .status(pauta.status())
+                .duracaoSegundos(pauta.duracaoSegundos())
+                .build();
 
+        return PautaResponse.builder()
+                .id(pauta.id())
+                .titulo(pauta.titulo())
+                .descricao(pauta.descricao())
+                .dataCriacao(pauta.dataCriacao())
+                .sessaoVotacao(sessaoResponse)
+                .build();
+    }
+
+    /**
+     * Pauta recém-criada, ainda sem sessão.
+     */
+    private PautaResponse toResponse(Pauta pauta) {
         return PautaResponse.builder()
                 .id(pauta.getId())
                 .titulo(pauta.getTitulo())
                 .descricao(pauta.getDescricao())
                 .dataCriacao(pauta.getDataCriacao())
-                .sessaoVotacao(sessaoResponse)
                 .build();
     }
+
+    /**
+     * Posição na listagem: o par (dataCriacao, id) do último item entregue, opaco para o cliente.
+     */
+    private record Cursor(LocalDateTime dataCriacao, UUID id) {
+
+        String codificar() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((dataCriacao + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decodificar(String cursor) {
+            try {
+                String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separador = texto.indexOf('|');
+                return new Cursor(LocalDateTime.parse(texto.substring(0, separador)),
+                        UUID.fromString(texto.substring(separador + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor inválido", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Consulta de resultado do perfil {@code reativo}, com o mesmo cache {@code resultados} e a mesma
+ * apuração em memória de {@link SessaoVotacaoService#obterResultado}. Na falta de ambos, os totais
+ * materializados são lidos via R2DBC; só sessões sem apuração materializada (anteriores a ela)
+ * recorrem à contagem bloqueante, no scheduler elástico.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ResultadoReativoService {
+
+    private static final String BUSCAR_RESULTADO = """
+            SELECT s.id AS sessao_id, p.id AS pauta_id, p.titulo, s.status, s.data_abertura, s.data_fechamento,
+                   a.total_votos, a.votos_sim, a.votos_nao
+            FROM sessoes_votacao s
+            JOIN pautas p ON p.id = s.pauta_id
+            LEFT JOIN apuracoes_sessao a ON a.sessao_votacao_id = s.id
+            WHERE s.id = :sessaoId
+            """;
+
+    private final SessaoVotacaoService sessaoService;
+    private final DatabaseClient databaseClient;
+    private final CacheManager cacheManager;
+
+    public Mono<ResultadoVotacaoResponse> obterResultado(UUID sessaoId) {
+        Cache cache = cacheManager.getCache(CacheResultados.CACHE);
+        ResultadoVotacaoResponse emCache = cache.get(sessaoId, ResultadoVotacaoResponse.class);
+        if (emCache != null) {
+            return Mono.just(emCache);
+        }
+
+        return Mono.justOrEmpty(sessaoService.resultadoEmMemoria(sessaoId))
+                .switchIfEmpty(Mono.defer(() -> buscarResultado(sessaoId)))
+                .doOnNext(resultado -> cache.put(sessaoId, resultado));
+    }
+
+    private Mono<ResultadoVotacaoResponse> buscarResultado(UUID sessaoId) {
+        return databaseClient.sql(BUSCAR_RESULTADO)
+                .bind("sessaoId", sessaoId)
+                .map(ResultadoReativoService::toProjection)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new SessaoVotacaoNaoEncontradaException(sessaoId)))
+                .flatMap(sessao -> sessao.possuiApuracao()
+                        ? Mono.just(sessaoService.toResultado(sessao))
+                        : Mono.fromCallable(() -> sessaoService.obterResultado(sessaoId))
+                                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private static ResultadoSessaoProjection toProjection(Readable linha) {
+        return new ResultadoSessaoProjection(
+                linha.get("sessao_id", UUID.class),
+                linha.get("pauta_id", UUID.class),
+                linha.get("titulo", String.class),
+                StatusSessao.valueOf(linha.get("status", String.class)),
+                linha.get("data_abertura", LocalDateTime.class),
+                linha.get("data_fechamento", LocalDateTime.class),
+                linha.get("total_votos", Long.class),
+                linha.get("votos_sim", Long.class),
+                linha.get("votos_nao", Long.class));
+    }
+}
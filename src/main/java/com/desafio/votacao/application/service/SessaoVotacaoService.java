@@ -3,21 +3,31 @@ package com.desafio.votacao.application.service;
 import com.desafio.votacao.application.dto.request.AbrirSessaoRequest;
 import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
 import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
 import com.desafio.votacao.domain.exception.PautaNaoEncontradaException;
 import com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException;
+import com.desafio.votacao.domain.model.ApuracaoSessao;
 import com.desafio.votacao.domain.model.OpcaoVoto;
-import com.desafio.votacao.domain.model.Pauta;
 import com.desafio.votacao.domain.model.SessaoVotacao;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
 import com.desafio.votacao.domain.repository.PautaRepository;
 import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
-import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.domain.repository.projection.PautaResumoProjection;
+import com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection;
+import com.desafio.votacao.domain.repository.projection.SessaoResumoProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -27,7 +37,9 @@ public class SessaoVotacaoService {
 
     private final SessaoVotacaoRepository sessaoRepository;
     private final PautaRepository pautaRepository;
-    private final VotoRepository votoRepository;
+    private final ApuracaoSessaoRepository apuracaoRepository;
+    private final ApuracaoEmTempoReal apuracaoEmTempoReal;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${votacao.sessao.duracao-padrao:60}")
     private Integer duracaoPadrao;
@@ -36,12 +48,12 @@ public class SessaoVotacaoService {
     public SessaoVotacaoResponse abrirSessao(AbrirSessaoRequest request) {
         log.info("Abrindo sessão de votação para pauta ID: {}", request.getPautaId());
 
-        // Verifica se a pauta existe
-        Pauta pauta = pautaRepository.findById(request.getPautaId())
+        // Verifica se a pauta existe e se já possui sessão, em uma única consulta
+        PautaResumoProjection pauta = pautaRepository.findResumoById(request.getPautaId())
                 .orElseThrow(() -> new PautaNaoEncontradaException(request.getPautaId()));
 
         // Verifica se já existe sessão para esta pauta
-        if (pauta.getSessaoVotacao() != null) {
+        if (pauta.possuiSessao()) {
             throw new IllegalStateException("Já existe uma sessão de votação para esta pauta");
         }
 
@@ -52,12 +64,20 @@ public class SessaoVotacaoService {
 
         // Cria a sessão
         SessaoVotacao sessao = SessaoVotacao.builder()
-                .pauta(pauta)
+                .pauta(pautaRepository.getReferenceById(pauta.id()))
                 .duracaoSegundos(duracao)
                 .build();
 
         sessao = sessaoRepository.save(sessao);
 
+        // Totais materializados, incrementados na mesma transação de cada voto
+        apuracaoRepository.save(ApuracaoSessao.builder()
+                .sessaoId(sessao.getId())
+                .build());
+
+        eventPublisher.publishEvent(new SessaoAbertaEvent(sessao.getId(), pauta.id(), pauta.titulo(),
+                sessao.getDataAbertura(), sessao.getDataFechamento()));
+
         log.info("Sessão de votação aberta com sucesso. ID: {}, Duração: {}s, Fecha em: {}",
                 sessao.getId(), duracao, sessao.getDataFechamento());
 
@@ -68,7 +88,7 @@ public class SessaoVotacaoService {
     public SessaoVotacaoResponse buscarPorId(UUID id) {
         log.info("Buscando sessão de votação por ID: {}", id);
 
-        SessaoVotacao sessao = sessaoRepository.findById(id)
+        SessaoResumoProjection sessao = sessaoRepository.findResumoById(id)
                 .orElseThrow(() -> new SessaoVotacaoNaoEncontradaException(id));
 
         return toResponse(sessao);
@@ -79,13 +99,59 @@ public class SessaoVotacaoService {
     public ResultadoVotacaoResponse obterResultado(UUID sessaoId) {
         log.info("Contabilizando resultado da sessão: {}", sessaoId);
 
-        SessaoVotacao sessao = sessaoRepository.findById(sessaoId)
+        // Sessões abertas acompanhadas em memória não consultam o banco
+        Optional<ResultadoVotacaoResponse> emMemoria = resultadoEmMemoria(sessaoId);
+        if (emMemoria.isPresent()) {
+            return emMemoria.get();
+        }
+
+        // Uma única linha traz sessão, título da pauta e totais materializados
+        ResultadoSessaoProjection sessao = sessaoRepository.buscarResultado(sessaoId)
                 .orElseThrow(() -> new SessaoVotacaoNaoEncontradaException(sessaoId));
 
+        if (sessao.possuiApuracao()) {
+            return toResultado(sessao);
+        }
+        return toResultado(sessao.sessaoId(), sessao.pautaId(), sessao.tituloPauta(), sessao.status(),
+                sessao.dataAbertura(), sessao.dataFechamento(), contarVotosPorOpcao(sessaoId));
+    }
+
+    Optional<ResultadoVotacaoResponse> resultadoEmMemoria(UUID sessaoId) {
+        return apuracaoEmTempoReal.buscarPlacar(sessaoId)
+                .map(p -> toResultado(p.getSessaoId(), p.getPautaId(), p.getTituloPauta(), StatusSessao.ABERTA,
+                        p.getDataAbertura(), p.getDataFechamento(), p.contagens()));
+    }
+
+    /**
+     * Resultado a partir dos totais materializados; a sessão deve possuir apuração.
+     */
+    ResultadoVotacaoResponse toResultado(ResultadoSessaoProjection sessao) {
+        return toResultado(sessao.sessaoId(), sessao.pautaId(), sessao.tituloPauta(), sessao.status(),
+                sessao.dataAbertura(), sessao.dataFechamento(),
+                Map.of(OpcaoVoto.SIM, sessao.votosSim(), OpcaoVoto.NAO, sessao.votosNao()));
+    }
+
+    /**
+     * Contagem agrupada na tabela de votos, para sessões anteriores à apuração materializada
+     * que ainda não foram encerradas (no encerramento a apuração é criada e congelada).
+     */
+    private Map<OpcaoVoto, Long> contarVotosPorOpcao(UUID sessaoId) {
+        log.debug("Sessão {} sem apuração materializada, contabilizando votos", sessaoId);
+
+        Map<OpcaoVoto, Long> votosPorOpcao = new EnumMap<>(OpcaoVoto.class);
+        sessaoRepository.contarVotosPorOpcao(sessaoId).stream()
+                .filter(contagem -> contagem.opcao() != null)
+                .forEach(contagem -> votosPorOpcao.put(contagem.opcao(), contagem.quantidade()));
+        return votosPorOpcao;
+    }
+
+    private ResultadoVotacaoResponse toResultado(UUID sessaoId, UUID pautaId, String tituloPauta,
+                                                 StatusSessao status, LocalDateTime dataAbertura,
+                                                 LocalDateTime dataFechamento, Map<OpcaoVoto, Long> votosPorOpcao) {
         // Contabiliza votos
-        Long totalVotos = votoRepository.countBySessaoId(sessaoId);
-        Long votosSim = votoRepository.countBySessaoAndOpcao(sessaoId, OpcaoVoto.SIM);
-        Long votosNao = votoRepository.countBySessaoAndOpcao(sessaoId, OpcaoVoto.NAO);
+        Long votosSim = votosPorOpcao.getOrDefault(OpcaoVoto.SIM, 0L);
+        Long votosNao = votosPorOpcao.getOrDefault(OpcaoVoto.NAO, 0L);
+        Long totalVotos = votosPorOpcao.values().stream().mapToLong(Long::longValue).sum();
 
         // Calcula percentuais
         Double percentualSim = totalVotos > 0 ? (votosSim * 100.0 / totalVotos) : 0.0;
@@ -105,12 +171,12 @@ public class SessaoVotacaoService {
                 sessaoId, totalVotos, votosSim, votosNao, resultado);
 
         return ResultadoVotacaoResponse.builder()
-                .sessaoId(sessao.getId())
-                .pautaId(sessao.getPauta().getId())
-                .tituloPauta(sessao.getPauta().getTitulo())
-                .statusSessao(sessao.getStatus())
-                .dataAbertura(sessao.getDataAbertura())
-                .dataFechamento(sessao.getDataFechamento())
+                .sessaoId(sessaoId)
+                .pautaId(pautaId)
+                .tituloPauta(tituloPauta)
+                .statusSessao(status)
+                .dataAbertura(dataAbertura)
+                .dataFechamento(dataFechamento)
                 .totalVotos(totalVotos)
                 .votosSim(votosSim)
                 .votosNao(votosNao)
@@ -130,4 +196,15 @@ public class SessaoVotacaoService {
                 .duracaoSegundos(sessao.getDuracaoSegundos())
                 .build();
     }
+
+    private SessaoVotacaoResponse toResponse(SessaoResumoProjection sessao) {
+        return SessaoVotacaoResponse.builder()
+                .id(sessao.id())
+                .pautaId(sessao.pautaId())
+                .dataAbertura(sessao.dataAbertura())
+                .dataFechamento(sessao.dataFechamento())
+                .status(sessao.status())
+                .duracaoSegundos(sessao.duracaoSegundos())
+                .build();
+    }
 }
@@ -0,0 +1,291 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.model.StatusSessao;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transmissão do resultado das sessões por Server-Sent Events.
+ * <p>
+ * Cada sessão com assinantes tem uma única transmissão. Os votos confirmados apenas marcam a
+ * transmissão como pendente; a cada {@code intervalo-ms} o resultado das sessões pendentes é
+ * calculado uma vez e enviado a todos os assinantes, de modo que o custo por tick independe do
+ * número de espectadores e rajadas de votos viram no máximo um evento por intervalo.
+ * Quando a sessão é encerrada o resultado final é enviado no evento {@code encerrada} e as
+ * conexões são finalizadas.
+ * <p>
+ * Os envios não rodam na thread do agendador nem na do encerramento: vão para um pool próprio e
+ * limitado ({@code threads} threads, fila de {@code capacidade-fila}). Um assinante lento não
+ * recebe um novo evento enquanto o anterior está em andamento; o envio que passa de
+ * {@code envio-timeout-ms}, ou que não cabe na fila, descarta o assinante e fecha a conexão. O
+ * envio preso no socket é interrompido, devolvendo a thread ao pool.
+ */
+@Component
+@Slf4j
+public class TransmissaoResultados {
+
+    static final String EVENTO_RESULTADO = "resultado";
+    static final String EVENTO_ENCERRADA = "encerrada";
+
+    private final SessaoVotacaoService sessaoService;
+    private final long timeoutMs;
+    private final long envioTimeoutMs;
+    private final ThreadPoolExecutor envios;
+
+    private final Map<UUID, Transmissao> transmissoes = new ConcurrentHashMap<>();
+
+    public TransmissaoResultados(SessaoVotacaoService sessaoService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${votacao.resultado.stream.timeout-ms:1800000}") long timeoutMs,
+                                 @Value("${votacao.resultado.stream.envio-timeout-ms:5000}") long envioTimeoutMs,
+                                 @Value("${votacao.resultado.stream.threads:4}") int threads,
+                                 @Value("${votacao.resultado.stream.capacidade-fila:10000}") int capacidadeFila) {
+        this.sessaoService = sessaoService;
+        this.timeoutMs = timeoutMs;
+        this.envioTimeoutMs = envioTimeoutMs;
+        this.envios = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                Thread.ofPlatform().name("sse-envio-", 0).daemon().factory());
+
+        Gauge.builder("votacao.resultado.stream.assinantes", transmissoes,
+                        t -> t.values().stream().mapToInt(transmissao -> transmissao.assinantes.size()).sum())
+                .description("Conexões SSE acompanhando resultados")
+                .register(meterRegistry);
+        Gauge.builder("votacao.resultado.stream.envios.fila", envios, executor -> executor.getQueue().size())
+                .description("Envios SSE aguardando uma thread do pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre a transmissão da sessão e envia o resultado atual como primeiro evento.
+     * Uma sessão já fechada recebe direto o evento final.
+     *
+     * @throws com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException se a sessão não existir
+     */
+    public SseEmitter assinar(UUID sessaoId) {
+        ResultadoVotacaoResponse atual = sessaoService.obterResultado(sessaoId);
+        Assinante assinante = new Assinante(criarEmissor(timeoutMs));
+
+        if (atual.getStatusSessao() == StatusSessao.FECHADA) {
+            encerrar(assinante, atual);
+            return assinante.emissor;
+        }
+
+        transmissoes.compute(sessaoId, (id, transmissao) -> {
+            Transmissao t = transmissao != null ? transmissao : new Transmissao();
+            t.assinantes.add(assinante);
+            return t;
+        });
+        assinante.emissor.onCompletion(() -> remover(sessaoId, assinante));
+        assinante.emissor.onTimeout(() -> remover(sessaoId, assinante));
+        assinante.emissor.onError(erro -> remover(sessaoId, assinante));
+
+        // Encerrada entre a consulta e o registro, onSessoesEncerradas já passou sem ver este assinante
+        ResultadoVotacaoResponse depois = sessaoService.obterResultado(sessaoId);
+        if (depois.getStatusSessao() == StatusSessao.FECHADA) {
+            encerrarTransmissao(sessaoId, depois);
+            return assinante.emissor;
+        }
+
+        enviar(sessaoId, null, assinante, atual);
+        return assinante.emissor;
+    }
+
+    /**
+     * Ponto de extensão para os testes simularem clientes lentos.
+     */
+    SseEmitter criarEmissor(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotoRegistrado(VotoRegistradoEvent event) {
+        Transmissao transmissao = transmissoes.get(event.sessaoId());
+        if (transmissao != null) {
+            transmissao.pendente.set(true);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessoesEncerradas(SessoesEncerradasEvent event) {
+        for (UUID sessaoId : event.sessaoIds()) {
+            if (transmissoes.containsKey(sessaoId)) {
+                // CacheResultados roda antes e já descartou o resultado da sessão aberta
+                encerrarTransmissao(sessaoId, sessaoService.obterResultado(sessaoId));
+            }
+        }
+    }
+
+    /**
+     * Envia o resultado das sessões que receberam votos desde o último tick.
+     */
+    @Scheduled(fixedRateString = "${votacao.resultado.stream.intervalo-ms:1000}")
+    public void publicar() {
+        transmissoes.forEach((sessaoId, transmissao) -> {
+            if (!transmissao.pendente.getAndSet(false)) {
+                return;
+            }
+            ResultadoVotacaoResponse resultado = sessaoService.obterResultado(sessaoId);
+            transmissao.assinantes.forEach(assinante -> enviar(sessaoId, transmissao, assinante, resultado));
+        });
+    }
+
+    @PreDestroy
+    void parar() {
+        envios.shutdownNow();
+    }
+
+    /**
+     * Remove a transmissão de uma só vez: cada assinante recebe o evento final uma única vez, seja
+     * aqui, seja na assinatura que viu a sessão fechar.
+     */
+    private void encerrarTransmissao(UUID sessaoId, ResultadoVotacaoResponse resultado) {
+        Transmissao transmissao = transmissoes.remove(sessaoId);
+        if (transmissao != null) {
+            transmissao.assinantes.forEach(assinante -> encerrar(assinante, resultado));
+            log.debug("Transmissão da sessão {} encerrada para {} assinantes", sessaoId, transmissao.assinantes.size());
+        }
+    }
+
+    int assinantes(UUID sessaoId) {
+        Transmissao transmissao = transmissoes.get(sessaoId);
+        return transmissao == null ? 0 : transmissao.assinantes.size();
+    }
+
+    private void enviar(UUID sessaoId, Transmissao transmissao, Assinante assinante, ResultadoVotacaoResponse resultado) {
+        if (!assinante.ocupado.compareAndSet(false, true)) {
+            // O evento anterior ainda não saiu: este é pulado e o próximo tick leva o resultado mais novo
+            if (transmissao != null) {
+                transmissao.pendente.set(true);
+            }
+            return;
+        }
+        executar(assinante, () -> {
+            assinante.emissor.send(SseEmitter.event().name(EVENTO_RESULTADO).data(resultado));
+        }).whenComplete((ok, erro) -> {
+            assinante.ocupado.set(false);
+            if (erro != null) {
+                // Cliente desconectado, lento demais ou pool saturado: descarta sem afetar os demais
+                log.debug("Assinante da sessão {} descartado: {}", sessaoId, erro.toString());
+                remover(sessaoId, assinante);
+            }
+        });
+    }
+
+    private void encerrar(Assinante assinante, ResultadoVotacaoResponse resultado) {
+        executar(assinante, () -> {
+            assinante.emissor.send(SseEmitter.event().name(EVENTO_ENCERRADA).data(resultado));
+            assinante.emissor.complete();
+        });
+    }
+
+    /**
+     * Executa o envio no pool com prazo de {@code envio-timeout-ms}; em qualquer falha a conexão é
+     * fechada. {@code complete()} espera o envio em andamento, então o envio que falha fecha a
+     * conexão na própria thread; o que passa do prazo é interrompido para falhar e liberá-la.
+     */
+    private CompletableFuture<Void> executar(Assinante assinante, Envio envio) {
+        CompletableFuture<Void> resultado = new CompletableFuture<>();
+        AtomicBoolean iniciado = new AtomicBoolean();
+        FutureTask<Void> tarefa = new FutureTask<>(() -> {
+            iniciado.set(true);
+            try {
+                envio.executar();
+                if (!resultado.complete(null)) {
+                    // Terminou depois do prazo: o assinante já foi descartado
+                    assinante.emissor.complete();
+                }
+            } catch (IOException | RuntimeException e) {
+                resultado.completeExceptionally(e);
+                assinante.emissor.complete();
+            }
+            return null;
+        });
+
+        try {
+            envios.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            finalizar(assinante);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return resultado.orTimeout(envioTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((ok, erro) -> {
+                    if (!(erro instanceof TimeoutException)) {
+                        return;
+                    }
+                    boolean naFila = !iniciado.get();
+                    tarefa.cancel(true);
+                    if (naFila) {
+                        // Descartado antes de rodar: ninguém mais fecha a conexão
+                        finalizar(assinante);
+                    }
+                });
+    }
+
+    /**
+     * Fecha pelo pool a conexão de um envio que não chegou a rodar.
+     */
+    private void finalizar(Assinante assinante) {
+        try {
+            envios.execute(assinante.emissor::complete);
+        } catch (RejectedExecutionException e) {
+            // Pool saturado: o timeout da conexão SSE a encerra
+            log.debug("Pool de envios SSE cheio, conexão fechada pelo próprio timeout");
+        }
+    }
+
+    private void remover(UUID sessaoId, Assinante assinante) {
+        transmissoes.computeIfPresent(sessaoId, (id, transmissao) -> {
+            transmissao.assinantes.remove(assinante);
+            return transmissao.assinantes.isEmpty() ? null : transmissao;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Envio {
+        void executar() throws IOException;
+    }
+
+    private static final class Assinante {
+
+        private final SseEmitter emissor;
+        private final AtomicBoolean ocupado = new AtomicBoolean();
+
+        private Assinante(SseEmitter emissor) {
+            this.emissor = emissor;
+        }
+    }
+
+    private static final class Transmissao {
+
+        private final List<Assinante> assinantes = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean pendente = new AtomicBoolean();
+    }
+}
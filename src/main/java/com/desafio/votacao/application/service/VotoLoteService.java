@@ -0,0 +1,194 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.ItemLoteVotoResponse;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.repository.projection.SessaoSnapshot;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registro de votos em lote, para quiosques que acumulam votos offline.
+ * <p>
+ * Cada sessão é carregada uma única vez, os CPFs distintos são validados em paralelo
+ * (consultas assíncronas ao serviço de CPF),
+ * os duplicados são detectados com uma consulta IN por sessão e os votos válidos são
+ * gravados em batch JDBC, conferindo de novo no insert se a sessão continua aberta.
+ * Cada item recebe seu próprio status; um item inválido não impede a gravação dos demais.
+ */
+@Service
+@Slf4j
+public class VotoLoteService {
+
+    private final SessaoVotacaoRepository sessaoRepository;
+    private final CpfValidationClient cpfValidationClient;
+    private final GravadorLoteVotos gravador;
+    private final Validator validator;
+    private final int tamanhoMaximo;
+
+    public VotoLoteService(SessaoVotacaoRepository sessaoRepository,
+                           CpfValidationClient cpfValidationClient,
+                           GravadorLoteVotos gravador,
+                           Validator validator,
+                           @Value("${votacao.voto.lote.tamanho-maximo:10000}") int tamanhoMaximo) {
+        this.sessaoRepository = sessaoRepository;
+        this.cpfValidationClient = cpfValidationClient;
+        this.gravador = gravador;
+        this.validator = validator;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public List<ItemLoteVotoResponse> registrarVotos(List<RegistrarVotoRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("O lote deve conter ao menos um voto");
+        }
+        if (requests.size() > tamanhoMaximo) {
+            throw new IllegalArgumentException("O lote deve conter no máximo " + tamanhoMaximo + " votos");
+        }
+
+        log.info("Registrando lote de {} votos", requests.size());
+
+        ItemLoteVotoResponse[] itens = new ItemLoteVotoResponse[requests.size()];
+        Cpf[] cpfs = new Cpf[requests.size()];
+
+        // 1. Valida o formato de cada item
+        for (int i = 0; i < requests.size(); i++) {
+            RegistrarVotoRequest request = requests.get(i);
+            Set<ConstraintViolation<RegistrarVotoRequest>> violacoes = request == null
+                    ? Set.of()
+                    : validator.validate(request);
+            if (request == null || !violacoes.isEmpty()) {
+                itens[i] = item(i, request, null, ItemLoteVotoResponse.Status.INVALIDO, violacoes.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            cpfs[i] = Cpf.of(request.getCpf());
+        }
+
+        // 2. Carrega cada sessão uma única vez
+        Set<UUID> sessaoIds = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (itens[i] == null) {
+                sessaoIds.add(requests.get(i).getSessaoId());
+            }
+        }
+        Map<UUID, SessaoSnapshot> sessoes = sessaoIds.isEmpty() ? Map.of() : sessaoRepository
+                .findSnapshotsByIdIn(sessaoIds).stream()
+                .collect(Collectors.toMap(SessaoSnapshot::id, Function.identity()));
+
+        for (int i = 0; i < requests.size(); i++) {
+            if (itens[i] != null) {
+                continue;
+            }
+            SessaoSnapshot sessao = sessoes.get(requests.get(i).getSessaoId());
+            if (sessao == null) {
+                itens[i] = item(i, requests.get(i), cpfs[i], ItemLoteVotoResponse.Status.SESSAO_NAO_ENCONTRADA,
+                        "Sessão de votação não encontrada");
+            } else if (!sessao.isAberta()) {
+                itens[i] = item(i, requests.get(i), cpfs[i], ItemLoteVotoResponse.Status.SESSAO_FECHADA,
+                        "A sessão de votação está fechada");
+            }
+        }
+
+        // 3. Valida os CPFs distintos em paralelo
+        Map<Cpf, Optional<Boolean>> autorizados = validarCpfs(requests, itens, cpfs);
+
+        List<Integer> indices = new ArrayList<>();
+        List<VotoPendente> pendentes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (itens[i] != null) {
+                continue;
+            }
+            Optional<Boolean> autorizado = autorizados.get(cpfs[i]);
+            if (autorizado.isEmpty()) {
+                itens[i] = item(i, requests.get(i), cpfs[i], ItemLoteVotoResponse.Status.VALIDACAO_CPF_INDISPONIVEL,
+                        "Serviço de validação de CPF indisponível");
+                continue;
+            }
+            if (!autorizado.get()) {
+                itens[i] = item(i, requests.get(i), cpfs[i], ItemLoteVotoResponse.Status.CPF_NAO_AUTORIZADO,
+                        "CPF inválido ou não autorizado a votar");
+                continue;
+            }
+            indices.add(i);
+            pendentes.add(new VotoPendente(requests.get(i).getSessaoId(), cpfs[i], requests.get(i).getOpcao()));
+        }
+
+        // 4. Detecta duplicados e grava em batch
+        int registrados = 0;
+        if (!pendentes.isEmpty()) {
+            List<GravadorLoteVotos.VotoGravado> gravados = gravador.gravar(pendentes);
+            for (int j = 0; j < gravados.size(); j++) {
+                int i = indices.get(j);
+                GravadorLoteVotos.VotoGravado gravado = gravados.get(j);
+                switch (gravado.situacao()) {
+                    case REGISTRADO -> {
+                        itens[i] = item(i, requests.get(i), cpfs[i], ItemLoteVotoResponse.Status.REGISTRADO, null);
+                        itens[i].setVotoId(gravado.id());
+                        registrados++;
+                    }
+                    case DUPLICADO -> itens[i] = item(i, requests.get(i), cpfs[i],
+                            ItemLoteVotoResponse.Status.DUPLICADO, "Associado já votou nesta sessão");
+                    case SESSAO_FECHADA -> itens[i] = item(i, requests.get(i), cpfs[i],
+                            ItemLoteVotoResponse.Status.SESSAO_FECHADA, "A sessão de votação está fechada");
+                }
+            }
+        }
+
+        log.info("Lote de {} votos processado: {} registrados", requests.size(), registrados);
+
+        return List.of(itens);
+    }
+
+    /**
+     * @return por CPF, o veredicto do serviço ou vazio se ele estiver indisponível
+     */
+    private Map<Cpf, Optional<Boolean>> validarCpfs(List<RegistrarVotoRequest> requests,
+                                                    ItemLoteVotoResponse[] itens, Cpf[] cpfs) {
+        Map<Cpf, CompletableFuture<Optional<Boolean>>> validacoes = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (itens[i] == null) {
+                validacoes.computeIfAbsent(cpfs[i], cpf -> cpfValidationClient.validarCpfAsync(cpf)
+                        .thenApply(Optional::of)
+                        .exceptionally(erro -> {
+                            log.warn("Validação do CPF {} indisponível: {}", cpf, erro.getMessage());
+                            return Optional.empty();
+                        }));
+            }
+        }
+
+        Map<Cpf, Optional<Boolean>> autorizados = new HashMap<>();
+        validacoes.forEach((cpf, validacao) -> autorizados.put(cpf, validacao.join()));
+        return autorizados;
+    }
+
+    private ItemLoteVotoResponse item(int indice, RegistrarVotoRequest request, Cpf cpf,
+                                      ItemLoteVotoResponse.Status status, String mensagem) {
+        return ItemLoteVotoResponse.builder()
+                .indice(indice)
+                .sessaoId(request == null ? null : request.getSessaoId())
+                .cpfMascarado(cpf == null ? "***" : cpf.mascarado())
+                .status(status)
+                .mensagem(mensagem)
+                .build();
+    }
+}
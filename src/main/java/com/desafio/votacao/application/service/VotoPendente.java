@@ -0,0 +1,12 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+
+import java.util.UUID;
+
+/**
+ * Voto já validado (sessão aberta e CPF autorizado), aguardando gravação.
+ */
+public record VotoPendente(UUID sessaoId, Cpf cpf, OpcaoVoto opcao) {
+}
@@ -0,0 +1,117 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.exception.CpfInvalidoException;
+import com.desafio.votacao.domain.exception.SessaoFechadaException;
+import com.desafio.votacao.domain.exception.VotoJaRegistradoException;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.persistence.UuidV7Generator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registro de voto do perfil {@code reativo}: as mesmas regras de {@link VotoService}, sem
+ * segurar thread nem conexão enquanto espera.
+ * <p>
+ * As validações de sessão usam o cache de sessões ({@link VotoService#validarSessao}) e, em caso
+ * de falta, o JPA; por isso rodam no scheduler elástico. O CPF é consultado de forma assíncrona e a
+ * gravação usa o mesmo insert condicional e o mesmo incremento da apuração do caminho bloqueante,
+ * em uma transação R2DBC.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class VotoReativoService {
+
+    private static final String CPF_JA_VOTOU =
+            "SELECT 1 FROM votos WHERE sessao_votacao_id = :sessaoId AND cpf_associado = :cpf";
+
+    private final VotoService votoService;
+    private final CpfValidationClient cpfValidationClient;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transacaoReativa;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Mono<VotoResponse> registrarVoto(RegistrarVotoRequest request) {
+        return Mono.fromCallable(() -> votoService.validarSessao(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(pendente -> Mono.fromFuture(() -> cpfValidationClient.validarCpfAsync(pendente.cpf()))
+                        .flatMap(podeVotar -> podeVotar
+                                ? gravar(pendente)
+                                : Mono.error(new CpfInvalidoException(pendente.cpf()))));
+    }
+
+    private Mono<VotoResponse> gravar(VotoPendente pendente) {
+        UUID id = UuidV7Generator.gerar();
+        LocalDateTime dataHora = LocalDateTime.now();
+        long sim = pendente.opcao() == OpcaoVoto.SIM ? 1 : 0;
+
+        Mono<Void> transacao = databaseClient.sql(VotoRepository.INSERIR_SE_SESSAO_ABERTA)
+                .bind("id", id)
+                .bind("sessaoId", pendente.sessaoId())
+                .bind("cpf", pendente.cpf().valor())
+                .bind("opcao", pendente.opcao().name())
+                .bind("dataHora", dataHora)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(inseridos -> inseridos == 0
+                        ? rejeicao(pendente)
+                        : databaseClient.sql(ApuracaoSessaoRepository.INCREMENTAR)
+                                .bind("total", 1L)
+                                .bind("sim", sim)
+                                .bind("nao", 1 - sim)
+                                .bind("sessaoId", pendente.sessaoId())
+                                .fetch()
+                                .rowsUpdated())
+                // Apuração já finalizada: o erro desfaz o voto, como em VotoService
+                .flatMap(atualizadas -> atualizadas == 0
+                        ? Mono.<Void>error(new SessaoFechadaException(pendente.sessaoId()))
+                        : Mono.<Void>empty());
+
+        return transacao
+                .as(transacaoReativa::transactional)
+                .then(Mono.fromCallable(() -> {
+                    log.info("Voto registrado com sucesso - ID: {}, Sessão: {}, Opção: {}",
+                            id, pendente.sessaoId(), pendente.opcao());
+                    // Sem transação JPA ativa: os ouvintes AFTER_COMMIT rodam na hora (fallbackExecution)
+                    eventPublisher.publishEvent(new VotoRegistradoEvent(pendente.sessaoId(), pendente.cpf(), pendente.opcao()));
+                    return votoService.toResponse(pendente, id, dataHora);
+                }));
+    }
+
+    /**
+     * Motivo de o insert não ter gravado: voto repetido ou sessão encerrada depois da validação.
+     */
+    private Mono<Long> rejeicao(VotoPendente pendente) {
+        return databaseClient.sql(CPF_JA_VOTOU)
+                .bind("sessaoId", pendente.sessaoId())
+                .bind("cpf", pendente.cpf().valor())
+                .fetch()
+                .first()
+                .hasElement()
+                .flatMap(jaVotou -> {
+                    if (jaVotou) {
+                        log.warn("Voto duplicado detectado - Sessão: {}, CPF: {}", pendente.sessaoId(), pendente.cpf());
+                        return Mono.error(new VotoJaRegistradoException(pendente.cpf(), pendente.sessaoId()));
+                    }
+                    log.warn("Sessão encerrada antes da gravação do voto: {}", pendente.sessaoId());
+                    return Mono.error(new SessaoFechadaException(pendente.sessaoId()));
+                });
+    }
+}
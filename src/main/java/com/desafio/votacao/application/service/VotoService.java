@@ -2,20 +2,23 @@ package com.desafio.votacao.application.service;
 
 import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
 import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
 import com.desafio.votacao.domain.exception.SessaoFechadaException;
 import com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException;
 import com.desafio.votacao.domain.exception.VotoJaRegistradoException;
-import com.desafio.votacao.domain.model.SessaoVotacao;
-import com.desafio.votacao.domain.model.Voto;
-import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
 import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.domain.repository.projection.SessaoSnapshot;
 import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.persistence.UuidV7Generator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -24,70 +27,122 @@ import java.util.UUID;
 public class VotoService {
 
     private final VotoRepository votoRepository;
-    private final SessaoVotacaoRepository sessaoRepository;
+    private final CacheSessoes cacheSessoes;
+    private final ApuracaoSessaoRepository apuracaoRepository;
+    private final FiltroVotosSessao filtroVotos;
     private final CpfValidationClient cpfValidationClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * Registra o voto em duas fases. As validações (sessão e CPF) rodam sem transação, então a
+     * consulta ao serviço de CPF não segura conexão do pool; a transação de escrita tem só o
+     * insert condicional do voto e a atualização dos totais.
+     * <p>
+     * O voto repetido é barrado antes da consulta ao serviço de CPF quando o
+     * {@link FiltroVotosSessao} aponta o CPF; quem ainda não votou segue direto para o insert.
+     */
     public VotoResponse registrarVoto(RegistrarVotoRequest request) {
-        String cpfLimpo = request.getCpf().replaceAll("[^0-9]", "");
-        log.info("Registrando voto - Sessão: {}, CPF: {}, Opção: {}",
-                request.getSessaoId(), maskCpf(cpfLimpo), request.getOpcao());
+        VotoPendente pendente = validarSessao(request);
 
-        // 1. Busca a sessão
-        SessaoVotacao sessao = sessaoRepository.findById(request.getSessaoId())
-                .orElseThrow(() -> new SessaoVotacaoNaoEncontradaException(request.getSessaoId()));
+        // 3. Confirma no banco só os CPFs que o filtro de duplicidade aponta
+        rejeitarSeJaVotou(pendente);
 
-        // 2. Valida se a sessão está aberta
-        if (!sessao.isAberta()) {
-            log.warn("Tentativa de voto em sessão fechada: {}", request.getSessaoId());
-            throw new SessaoFechadaException(request.getSessaoId());
-        }
+        // 4. Valida CPF (Bônus 1)
+        cpfValidationClient.validarCpf(pendente.cpf());
 
-        // 3. Valida CPF (Bônus 1)
-        cpfValidationClient.validarCpf(cpfLimpo);
+        return transactionTemplate.execute(status -> gravar(pendente));
+    }
 
-        // 4. Verifica se já votou
-        if (votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(request.getSessaoId(), cpfLimpo)) {
-            log.warn("Voto duplicado detectado - Sessão: {}, CPF: {}",
-                    request.getSessaoId(), maskCpf(cpfLimpo));
-            throw new VotoJaRegistradoException(cpfLimpo, request.getSessaoId());
+    private void rejeitarSeJaVotou(VotoPendente pendente) {
+        if (!filtroVotos.filtroIndicaVoto(pendente.sessaoId(), pendente.cpf())) {
+            return;
+        }
+        if (votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(pendente.sessaoId(), pendente.cpf())) {
+            log.warn("Voto duplicado detectado - Sessão: {}, CPF: {}", pendente.sessaoId(), pendente.cpf());
+            throw new VotoJaRegistradoException(pendente.cpf(), pendente.sessaoId());
         }
+        filtroVotos.registrarFalsoPositivo(pendente.sessaoId());
+    }
 
-        // 5. Cria e salva o voto
-        Voto voto = Voto.builder()
-                .sessaoVotacao(sessao)
-                .cpfAssociado(cpfLimpo)
-                .opcao(request.getOpcao())
-                .build();
+    private VotoResponse gravar(VotoPendente pendente) {
+        // 5. Grava o voto se a sessão continuar aberta e o CPF ainda não tiver votado, em um único comando
+        UUID id = UuidV7Generator.gerar();
+        LocalDateTime dataHora = LocalDateTime.now();
+        if (votoRepository.inserirSeSessaoAberta(id, pendente.sessaoId(), pendente.cpf(), pendente.opcao(), dataHora) == 0) {
+            throw rejeicao(pendente);
+        }
+        log.info("Voto registrado com sucesso - ID: {}, Sessão: {}, Opção: {}",
+                id, pendente.sessaoId(), pendente.opcao());
 
-        try {
-            voto = votoRepository.save(voto);
-            log.info("Voto registrado com sucesso - ID: {}, Sessão: {}, Opção: {}",
-                    voto.getId(), request.getSessaoId(), request.getOpcao());
-        } catch (DataIntegrityViolationException e) {
-            // Race condition: outro voto foi registrado entre a verificação e o save
-            log.error("Erro de integridade ao registrar voto (race condition) - Sessão: {}, CPF: {}",
-                    request.getSessaoId(), maskCpf(cpfLimpo));
-            throw new VotoJaRegistradoException(cpfLimpo, request.getSessaoId());
+        // 6. Atualiza os totais materializados na mesma transação do insert; apuração já finalizada
+        // significa que a sessão encerrou entre o insert e aqui, e a exceção desfaz o voto
+        if (apuracaoRepository.registrarVoto(pendente.sessaoId(), pendente.opcao()) == 0) {
+            log.warn("Apuração da sessão {} finalizada antes da gravação do voto", pendente.sessaoId());
+            throw new SessaoFechadaException(pendente.sessaoId());
         }
 
-        return toResponse(voto);
+        // Apuração em memória e filtro de duplicidade são atualizados somente após o commit
+        eventPublisher.publishEvent(new VotoRegistradoEvent(pendente.sessaoId(), pendente.cpf(), pendente.opcao()));
+
+        return toResponse(pendente, id, dataHora);
     }
 
-    private VotoResponse toResponse(Voto voto) {
-        return VotoResponse.builder()
-                .id(voto.getId())
-                .sessaoId(voto.getSessaoVotacao().getId())
-                .cpfMascarado(maskCpf(voto.getCpfAssociado()))
-                .opcao(voto.getOpcao())
-                .dataHora(voto.getDataHora())
-                .build();
+    /**
+     * Motivo de o insert não ter gravado: voto repetido ou sessão encerrada depois da validação.
+     * Só esse caminho paga a consulta extra.
+     */
+    private RuntimeException rejeicao(VotoPendente pendente) {
+        if (votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(pendente.sessaoId(), pendente.cpf())) {
+            log.warn("Voto duplicado detectado - Sessão: {}, CPF: {}", pendente.sessaoId(), pendente.cpf());
+            return new VotoJaRegistradoException(pendente.cpf(), pendente.sessaoId());
+        }
+        log.warn("Sessão encerrada antes da gravação do voto: {}", pendente.sessaoId());
+        return new SessaoFechadaException(pendente.sessaoId());
     }
 
-    private String maskCpf(String cpf) {
-        if (cpf == null || cpf.length() < 11) {
-            return "***";
+    /**
+     * Executa as validações que antecedem a gravação: sessão existente e aberta e CPF autorizado.
+     * Não grava nada; é compartilhado pelo registro direto e pela ingestão em lote.
+     */
+    public VotoPendente prepararVoto(RegistrarVotoRequest request) {
+        VotoPendente pendente = validarSessao(request);
+
+        // 4. Valida CPF (Bônus 1); a duplicidade é conferida na gravação do lote
+        cpfValidationClient.validarCpf(pendente.cpf());
+
+        return pendente;
+    }
+
+    /**
+     * Validações do voto que não dependem do serviço de CPF: formato do CPF e sessão existente e
+     * aberta. O caminho reativo as reutiliza e consulta o CPF sem bloquear.
+     */
+    public VotoPendente validarSessao(RegistrarVotoRequest request) {
+        Cpf cpf = Cpf.of(request.getCpf());
+        log.info("Registrando voto - Sessão: {}, CPF: {}, Opção: {}",
+                request.getSessaoId(), cpf, request.getOpcao());
+
+        // 1. Busca a sessão (snapshot em cache)
+        SessaoSnapshot sessao = cacheSessoes.buscar(request.getSessaoId())
+                .orElseThrow(() -> new SessaoVotacaoNaoEncontradaException(request.getSessaoId()));
+
+        // 2. Valida se a sessão está aberta
+        if (!sessao.isAberta()) {
+            log.warn("Tentativa de voto em sessão fechada: {}", request.getSessaoId());
+            throw new SessaoFechadaException(request.getSessaoId());
         }
-        return cpf.substring(0, 3) + ".***.***-" + cpf.substring(9);
+
+        return new VotoPendente(sessao.id(), cpf, request.getOpcao());
+    }
+
+    public VotoResponse toResponse(VotoPendente pendente, UUID id, LocalDateTime dataHora) {
+        return VotoResponse.builder()
+                .id(id)
+                .sessaoId(pendente.sessaoId())
+                .cpfMascarado(pendente.cpf().mascarado())
+                .opcao(pendente.opcao())
+                .dataHora(dataHora)
+                .build();
     }
 }
@@ -0,0 +1,16 @@
+package com.desafio.votacao.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Publicado quando uma sessão de votação é aberta.
+ */
+public record SessaoAbertaEvent(
+        UUID sessaoId,
+        UUID pautaId,
+        String tituloPauta,
+        LocalDateTime dataAbertura,
+        LocalDateTime dataFechamento
+) {
+}
@@ -0,0 +1,10 @@
+package com.desafio.votacao.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publicado pelo job de fechamento com os IDs das sessões encerradas na execução.
+ */
+public record SessoesEncerradasEvent(List<UUID> sessaoIds) {
+}
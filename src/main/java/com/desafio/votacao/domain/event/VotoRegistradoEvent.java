@@ -0,0 +1,13 @@
+package com.desafio.votacao.domain.event;
+
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando um voto é gravado. Ouvintes interessados no efeito
+ * confirmado devem usar {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.
+ */
+public record VotoRegistradoEvent(UUID sessaoId, Cpf cpf, OpcaoVoto opcao) {
+}
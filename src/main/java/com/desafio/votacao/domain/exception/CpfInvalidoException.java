@@ -1,19 +1,14 @@
 package com.desafio.votacao.domain.exception;
 
+import com.desafio.votacao.domain.model.Cpf;
+
 public class CpfInvalidoException extends RuntimeException {
 
-    public CpfInvalidoException(String cpf) {
-        super("CPF inválido ou não autorizado a votar: " + maskCpf(cpf));
+    public CpfInvalidoException(Cpf cpf) {
+        super("CPF inválido ou não autorizado a votar: " + cpf.mascarado());
     }
 
     public CpfInvalidoException(String message, Throwable cause) {
         super(message, cause);
     }
-
-    private static String maskCpf(String cpf) {
-        if (cpf == null || cpf.length() < 11) {
-            return "***";
-        }
-        return cpf.substring(0, 3) + ".***.***-" + cpf.substring(9);
-    }
 }
@@ -0,0 +1,12 @@
+package com.desafio.votacao.domain.exception;
+
+public class IngestaoSobrecarregadaException extends RuntimeException {
+
+    public IngestaoSobrecarregadaException(int capacidade) {
+        super("Fila de ingestão de votos cheia (capacidade " + capacidade + "). Tente novamente em instantes");
+    }
+
+    public IngestaoSobrecarregadaException(String message) {
+        super(message);
+    }
+}
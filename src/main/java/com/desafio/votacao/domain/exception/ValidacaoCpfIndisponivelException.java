@@ -0,0 +1,12 @@
+package com.desafio.votacao.domain.exception;
+
+public class ValidacaoCpfIndisponivelException extends RuntimeException {
+
+    public ValidacaoCpfIndisponivelException(String message) {
+        super(message);
+    }
+
+    public ValidacaoCpfIndisponivelException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
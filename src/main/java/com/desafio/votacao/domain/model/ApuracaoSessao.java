@@ -0,0 +1,90 @@
+package com.desafio.votacao.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Totais materializados de uma sessão de votação.
+ * Atualizados na mesma transação do insert do voto, com incremento atômico no banco.
+ * Quando a sessão é encerrada a linha é finalizada e passa a ser o resultado definitivo:
+ * a leitura do resultado não depende mais da tabela de votos.
+ * <p>
+ * O ID é o da sessão, atribuído pela aplicação; {@link Persistable} evita o SELECT que o
+ * {@code save} faria para decidir entre INSERT e merge. Por ser atribuído antes do persist,
+ * o ID também define a igualdade.
+ */
+@Entity
+@Table(name = "apuracoes_sessao")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApuracaoSessao implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "sessao_votacao_id")
+    private UUID sessaoId;
+
+    @Column(name = "total_votos", nullable = false)
+    @Builder.Default
+    private Long totalVotos = 0L;
+
+    @Column(name = "votos_sim", nullable = false)
+    @Builder.Default
+    private Long votosSim = 0L;
+
+    @Column(name = "votos_nao", nullable = false)
+    @Builder.Default
+    private Long votosNao = 0L;
+
+    /**
+     * Momento em que o resultado foi congelado pelo encerramento da sessão; nulo enquanto aberta.
+     */
+    @Column(name = "finalizada_em")
+    private LocalDateTime finalizadaEm;
+
+    @Transient
+    @Builder.Default
+    private boolean nova = true;
+
+    @Override
+    public UUID getId() {
+        return sessaoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return nova;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void marcarPersistida() {
+        nova = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ApuracaoSessao outra && sessaoId != null && sessaoId.equals(outra.getSessaoId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(sessaoId);
+    }
+}
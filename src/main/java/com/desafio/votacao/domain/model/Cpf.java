@@ -0,0 +1,119 @@
+package com.desafio.votacao.domain.model;
+
+/**
+ * CPF normalizado como os 11 dígitos em um {@code long}.
+ * <p>
+ * O texto recebido é percorrido uma única vez na entrada do sistema, sem regex nem strings
+ * intermediárias, e os dígitos verificadores são conferidos aritmeticamente sobre o número.
+ * Daí em diante o CPF trafega e é persistido (BIGINT) como número.
+ * <p>
+ * {@link #toString()} devolve o CPF mascarado: passado como argumento de log
+ * ({@code log.info("CPF: {}", cpf)}) a máscara só é montada se a linha for de fato emitida,
+ * e o número completo nunca vaza para os logs por descuido.
+ */
+public record Cpf(long valor) {
+
+    private static final long MAXIMO = 99_999_999_999L;
+
+    // 11111111111: os CPFs com todos os dígitos iguais são múltiplos dele
+    private static final long REPDIGITO = 11_111_111_111L;
+
+    public Cpf {
+        if (valor < 0 || valor > MAXIMO) {
+            throw new IllegalArgumentException("CPF deve conter 11 dígitos");
+        }
+    }
+
+    /**
+     * Converte um CPF com ou sem formatação (pontos, hífen, espaços) ignorando os não dígitos.
+     *
+     * @throws IllegalArgumentException se não houver exatamente 11 dígitos ou os dígitos
+     *                                  verificadores não conferirem
+     */
+    public static Cpf of(String cpf) {
+        if (cpf == null) {
+            throw new IllegalArgumentException("CPF é obrigatório");
+        }
+
+        long valor = 0;
+        int digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 11) {
+                    break;
+                }
+                valor = valor * 10 + (c - '0');
+            }
+        }
+
+        if (digitos != 11) {
+            throw new IllegalArgumentException("CPF deve conter 11 dígitos");
+        }
+        if (!digitosVerificadoresConferem(valor)) {
+            throw new IllegalArgumentException("CPF inválido");
+        }
+        return new Cpf(valor);
+    }
+
+    /**
+     * Confere os dois dígitos verificadores (módulo 11) direto sobre o número.
+     */
+    static boolean digitosVerificadoresConferem(long valor) {
+        if (valor % REPDIGITO == 0) {
+            return false;
+        }
+
+        int segundoDv = (int) (valor % 10);
+        int primeiroDv = (int) (valor / 10 % 10);
+        long base = valor / 100;
+
+        // Percorre os 9 dígitos da base da direita para a esquerda: pesos 2..10 e 3..11
+        int soma1 = 0;
+        int soma2 = primeiroDv * 2;
+        for (int peso = 2; peso <= 10; peso++) {
+            int digito = (int) (base % 10);
+            soma1 += digito * peso;
+            soma2 += digito * (peso + 1);
+            base /= 10;
+        }
+
+        return primeiroDv == digitoVerificador(soma1) && segundoDv == digitoVerificador(soma2);
+    }
+
+    private static int digitoVerificador(int soma) {
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+
+    /**
+     * Os 11 dígitos, com zeros à esquerda.
+     */
+    public String digitos() {
+        char[] texto = new char[11];
+        long restante = valor;
+        for (int i = 10; i >= 0; i--) {
+            texto[i] = (char) ('0' + restante % 10);
+            restante /= 10;
+        }
+        return new String(texto);
+    }
+
+    /**
+     * CPF no formato {@code 123.***.***-01}, para logs e respostas.
+     */
+    public String mascarado() {
+        long prefixo = valor / 100_000_000;
+        int sufixo = (int) (valor % 100);
+        return new String(new char[]{
+                (char) ('0' + prefixo / 100), (char) ('0' + prefixo / 10 % 10), (char) ('0' + prefixo % 10),
+                '.', '*', '*', '*', '.', '*', '*', '*', '-',
+                (char) ('0' + sufixo / 10), (char) ('0' + sufixo % 10)
+        });
+    }
+
+    @Override
+    public String toString() {
+        return mascarado();
+    }
+}
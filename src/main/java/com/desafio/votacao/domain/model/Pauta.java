@@ -1,26 +1,31 @@
 package com.desafio.votacao.domain.model;
 
+import com.desafio.votacao.infrastructure.persistence.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "pautas")
-@Data
+@Getter
+@Setter
+@ToString(exclude = "sessaoVotacao")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Pauta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @NotBlank(message = "Título é obrigatório")
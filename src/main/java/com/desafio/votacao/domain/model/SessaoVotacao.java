@@ -1,10 +1,13 @@
 package com.desafio.votacao.domain.model;
 
+import com.desafio.votacao.infrastructure.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,17 +16,19 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "sessoes_votacao")
-@Data
+@Getter
+@Setter
+@ToString(exclude = {"pauta", "votos"})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class SessaoVotacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "pauta_id", nullable = false, unique = true)
     private Pauta pauta;
 
@@ -58,6 +63,10 @@ public class SessaoVotacao {
     }
 
     public boolean isAberta() {
+        return isAberta(status, dataFechamento);
+    }
+
+    public static boolean isAberta(StatusSessao status, LocalDateTime dataFechamento) {
         return status == StatusSessao.ABERTA && LocalDateTime.now().isBefore(dataFechamento);
     }
 
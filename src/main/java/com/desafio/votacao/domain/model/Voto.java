@@ -1,13 +1,14 @@
 package com.desafio.votacao.domain.model;
 
+import com.desafio.votacao.infrastructure.persistence.UuidV7;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.validator.constraints.br.CPF;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,20 +19,18 @@ import java.util.UUID;
     uniqueConstraints = @UniqueConstraint(
         name = "uk_sessao_cpf",
         columnNames = {"sessao_votacao_id", "cpf_associado"}
-    ),
-    indexes = {
-        @Index(name = "idx_sessao_id", columnList = "sessao_votacao_id"),
-        @Index(name = "idx_cpf_associado", columnList = "cpf_associado")
-    }
+    )
 )
-@Data
+@Getter
+@Setter
+@ToString(exclude = "sessaoVotacao")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Voto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,10 +38,9 @@ public class Voto {
     @NotNull(message = "Sessão de votação é obrigatória")
     private SessaoVotacao sessaoVotacao;
 
-    @CPF(message = "CPF inválido")
-    @NotBlank(message = "CPF é obrigatório")
-    @Column(name = "cpf_associado", nullable = false, length = 11)
-    private String cpfAssociado;
+    @NotNull(message = "CPF é obrigatório")
+    @Column(name = "cpf_associado", nullable = false)
+    private Cpf cpfAssociado;
 
     @Enumerated(EnumType.STRING)
     @NotNull(message = "Opção de voto é obrigatória")
@@ -55,9 +53,5 @@ public class Voto {
     @PrePersist
     protected void onCreate() {
         dataHora = LocalDateTime.now();
-        // Remove formatação do CPF, mantém apenas números
-        if (cpfAssociado != null) {
-            cpfAssociado = cpfAssociado.replaceAll("[^0-9]", "");
-        }
     }
 }
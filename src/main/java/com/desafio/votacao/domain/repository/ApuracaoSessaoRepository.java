@@ -0,0 +1,64 @@
+package com.desafio.votacao.domain.repository;
+
+import com.desafio.votacao.domain.model.ApuracaoSessao;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ApuracaoSessaoRepository extends JpaRepository<ApuracaoSessao, UUID> {
+
+    /**
+     * UPDATE dos totais compartilhado com o caminho reativo, que o executa via R2DBC.
+     */
+    String INCREMENTAR = "UPDATE apuracoes_sessao SET total_votos = total_votos + :total, " +
+            "votos_sim = votos_sim + :sim, votos_nao = votos_nao + :nao " +
+            "WHERE sessao_votacao_id = :sessaoId AND finalizada_em IS NULL";
+
+    /**
+     * Incrementa os totais da sessão com um único UPDATE atômico, somente enquanto a apuração não
+     * foi finalizada. Se o encerramento finalizar a apuração em paralelo, o UPDATE espera o lock da
+     * linha e, reavaliado, não a atualiza: o voto deve ser desfeito, pois não entraria no resultado.
+     *
+     * @return quantidade de linhas atualizadas (0 se a apuração já foi finalizada)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = INCREMENTAR)
+    int incrementar(UUID sessaoId, long total, long sim, long nao);
+
+    default int registrarVoto(UUID sessaoId, OpcaoVoto opcao) {
+        return incrementar(sessaoId, 1, opcao == OpcaoVoto.SIM ? 1 : 0, opcao == OpcaoVoto.NAO ? 1 : 0);
+    }
+
+    /**
+     * Congela o resultado das sessões encerradas: finaliza as apurações existentes e cria, a partir
+     * de uma única contagem agrupada, as das sessões que não possuíam apuração materializada.
+     */
+    default void finalizar(Collection<UUID> sessaoIds, LocalDateTime finalizadaEm) {
+        marcarFinalizadas(sessaoIds, finalizadaEm);
+        inserirFinalizadasPelaContagem(sessaoIds, finalizadaEm);
+    }
+
+    @Modifying
+    @Query("UPDATE ApuracaoSessao a SET a.finalizadaEm = :finalizadaEm " +
+            "WHERE a.sessaoId IN :sessaoIds AND a.finalizadaEm IS NULL")
+    int marcarFinalizadas(Collection<UUID> sessaoIds, LocalDateTime finalizadaEm);
+
+    @Modifying
+    @Query("INSERT INTO ApuracaoSessao (sessaoId, totalVotos, votosSim, votosNao, finalizadaEm) " +
+            "SELECT s.id, COUNT(v.opcao), " +
+            "COALESCE(SUM(CASE WHEN v.opcao = com.desafio.votacao.domain.model.OpcaoVoto.SIM THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN v.opcao = com.desafio.votacao.domain.model.OpcaoVoto.NAO THEN 1 ELSE 0 END), 0), " +
+            ":finalizadaEm " +
+            "FROM SessaoVotacao s LEFT JOIN s.votos v " +
+            "WHERE s.id IN :sessaoIds " +
+            "AND NOT EXISTS (SELECT 1 FROM ApuracaoSessao a WHERE a.sessaoId = s.id) " +
+            "GROUP BY s.id")
+    int inserirFinalizadasPelaContagem(Collection<UUID> sessaoIds, LocalDateTime finalizadaEm);
+}
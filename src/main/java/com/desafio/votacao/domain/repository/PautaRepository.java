@@ -1,11 +1,47 @@
 package com.desafio.votacao.domain.repository;
 
 import com.desafio.votacao.domain.model.Pauta;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.projection.PautaResumoProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PautaRepository extends JpaRepository<Pauta, UUID> {
+
+    /**
+     * Pauta e sua sessão em uma única linha, sem carregar as entidades.
+     */
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.PautaResumoProjection(" +
+            "p.id, p.titulo, p.descricao, p.dataCriacao, " +
+            "s.id, s.dataAbertura, s.dataFechamento, s.status, s.duracaoSegundos) " +
+            "FROM Pauta p LEFT JOIN p.sessaoVotacao s WHERE p.id = :id")
+    Optional<PautaResumoProjection> findResumoById(UUID id);
+
+    /**
+     * Página da listagem de pautas, das mais recentes para as mais antigas, com a sessão de cada
+     * uma na mesma linha. A paginação é por keyset: a próxima página começa depois do par
+     * (dataCriacao, id) do último item da anterior, sem OFFSET.
+     *
+     * @param status     filtra pelo status da sessão; nulo lista todas as pautas
+     * @param dataCriacao data de criação do último item da página anterior; nula na primeira página
+     * @param id         ID do último item da página anterior; nulo na primeira página
+     */
+    // O CAST tipa o parâmetro nulo: o driver do Postgres envia LocalDateTime sem tipo e o "? IS NULL" falharia
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.PautaResumoProjection(" +
+            "p.id, p.titulo, p.descricao, p.dataCriacao, " +
+            "s.id, s.dataAbertura, s.dataFechamento, s.status, s.duracaoSegundos) " +
+            "FROM Pauta p LEFT JOIN p.sessaoVotacao s " +
+            "WHERE (:status IS NULL OR s.status = :status) " +
+            "AND (CAST(:dataCriacao AS LocalDateTime) IS NULL OR p.dataCriacao < :dataCriacao " +
+            "OR (p.dataCriacao = :dataCriacao AND p.id < :id)) " +
+            "ORDER BY p.dataCriacao DESC, p.id DESC")
+    List<PautaResumoProjection> listarPagina(StatusSessao status, LocalDateTime dataCriacao, UUID id, Limit limite);
 }
@@ -2,11 +2,22 @@ package com.desafio.votacao.domain.repository;
 
 import com.desafio.votacao.domain.model.SessaoVotacao;
 import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.projection.ContagemVotosProjection;
+import com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection;
+import com.desafio.votacao.domain.repository.projection.SessaoResumoProjection;
+import com.desafio.votacao.domain.repository.projection.SessaoSnapshot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,4 +31,70 @@ public interface SessaoVotacaoRepository extends JpaRepository<SessaoVotacao, UU
 
     @Query("SELECT s FROM SessaoVotacao s WHERE s.status = :status")
     List<SessaoVotacao> findByStatus(StatusSessao status);
+
+    @Query("SELECT DISTINCT s.dataFechamento FROM SessaoVotacao s " +
+            "WHERE s.status = com.desafio.votacao.domain.model.StatusSessao.ABERTA")
+    List<LocalDateTime> findDatasFechamentoDeSessoesAbertas();
+
+    /**
+     * IDs das sessões abertas já expiradas, bloqueados para o encerramento. Linhas bloqueadas por
+     * outra instância são puladas (timeout -2: SKIP LOCKED nos bancos que suportam).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s.id FROM SessaoVotacao s " +
+            "WHERE s.status = com.desafio.votacao.domain.model.StatusSessao.ABERTA AND s.dataFechamento < :agora " +
+            "ORDER BY s.dataFechamento")
+    List<UUID> findIdsExpiradosParaEncerrar(LocalDateTime agora, Limit limite);
+
+    /**
+     * Fecha as sessões com um único UPDATE, incrementando a versão usada no lock otimista.
+     */
+    @Modifying
+    @Query("UPDATE SessaoVotacao s SET s.status = com.desafio.votacao.domain.model.StatusSessao.FECHADA, " +
+            "s.version = s.version + 1 " +
+            "WHERE s.id IN :ids AND s.status = com.desafio.votacao.domain.model.StatusSessao.ABERTA")
+    int encerrar(Collection<UUID> ids);
+
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.SessaoSnapshot(" +
+            "s.id, s.pauta.id, s.dataFechamento, s.status) " +
+            "FROM SessaoVotacao s WHERE s.id IN :ids")
+    List<SessaoSnapshot> findSnapshotsByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.SessaoSnapshot(" +
+            "s.id, s.pauta.id, s.dataFechamento, s.status) " +
+            "FROM SessaoVotacao s WHERE s.id = :id")
+    Optional<SessaoSnapshot> findSnapshotById(UUID id);
+
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.SessaoResumoProjection(" +
+            "s.id, s.pauta.id, s.dataAbertura, s.dataFechamento, s.status, s.duracaoSegundos) " +
+            "FROM SessaoVotacao s WHERE s.id = :id")
+    Optional<SessaoResumoProjection> findResumoById(UUID id);
+
+    /**
+     * Apura a sessão em uma única consulta: contagem por opção, status da sessão e título da pauta.
+     * Usada apenas para sessões sem linha em {@code apuracoes_sessao}. Conta {@code v.opcao} (e não o
+     * id) para ler só colunas de {@code idx_voto_sessao_opcao}, sem acessar a tabela de votos.
+     */
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.ContagemVotosProjection(" +
+            "s.id, p.id, p.titulo, s.status, s.dataAbertura, s.dataFechamento, v.opcao, COUNT(v.opcao)) " +
+            "FROM SessaoVotacao s JOIN s.pauta p LEFT JOIN s.votos v " +
+            "WHERE s.id = :sessaoId " +
+            "GROUP BY s.id, p.id, p.titulo, s.status, s.dataAbertura, s.dataFechamento, v.opcao")
+    List<ContagemVotosProjection> contarVotosPorOpcao(UUID sessaoId);
+
+    /**
+     * Lê a sessão e seus totais materializados em uma única linha.
+     */
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection(" +
+            "s.id, p.id, p.titulo, s.status, s.dataAbertura, s.dataFechamento, a.totalVotos, a.votosSim, a.votosNao) " +
+            "FROM SessaoVotacao s JOIN s.pauta p LEFT JOIN ApuracaoSessao a ON a.sessaoId = s.id " +
+            "WHERE s.id = :sessaoId")
+    Optional<ResultadoSessaoProjection> buscarResultado(UUID sessaoId);
+
+    @Query("SELECT new com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection(" +
+            "s.id, p.id, p.titulo, s.status, s.dataAbertura, s.dataFechamento, a.totalVotos, a.votosSim, a.votosNao) " +
+            "FROM SessaoVotacao s JOIN s.pauta p LEFT JOIN ApuracaoSessao a ON a.sessaoId = s.id " +
+            "WHERE s.status = :status")
+    List<ResultadoSessaoProjection> buscarResultadosPorStatus(StatusSessao status);
 }
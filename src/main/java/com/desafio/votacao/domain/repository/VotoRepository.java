@@ -1,27 +1,74 @@
 package com.desafio.votacao.domain.repository;
 
+import com.desafio.votacao.domain.model.Cpf;
 import com.desafio.votacao.domain.model.OpcaoVoto;
 import com.desafio.votacao.domain.model.Voto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VotoRepository extends JpaRepository<Voto, UUID> {
 
-    Optional<Voto> findBySessaoVotacaoIdAndCpfAssociado(UUID sessaoId, String cpf);
+    // Consulta explícita: a derivada faz LEFT JOIN com a sessão e filtra pelo id dela, sem usar uk_sessao_cpf
+    @Query("SELECT COUNT(v.id) > 0 FROM Voto v WHERE v.sessaoVotacao.id = :sessaoId AND v.cpfAssociado = :cpf")
+    boolean existsBySessaoVotacaoIdAndCpfAssociado(UUID sessaoId, Cpf cpf);
 
-    boolean existsBySessaoVotacaoIdAndCpfAssociado(UUID sessaoId, String cpf);
+    /**
+     * Grava o voto em um único comando, somente se a sessão estiver aberta em {@code dataHora}.
+     * O voto repetido do CPF na sessão é descartado pela restrição {@code uk_sessao_cpf} sem erro,
+     * e o fechamento concorrente da sessão é resolvido pelo próprio banco.
+     *
+     * @return 1 se o voto foi gravado; 0 se o CPF já votou ou a sessão não está mais aberta
+     */
+    default int inserirSeSessaoAberta(UUID id, UUID sessaoId, Cpf cpf, OpcaoVoto opcao, LocalDateTime dataHora) {
+        return inserirSeSessaoAberta(id, sessaoId, cpf.valor(), opcao.name(), dataHora);
+    }
 
-    List<Voto> findBySessaoVotacaoId(UUID sessaoId);
+    /**
+     * Insert condicional do voto, também executado em batch JDBC pelo {@code GravadorLoteVotos}.
+     * ON CONFLICT sem alvo: a chave primária é um UUID novo, então só uk_sessao_cpf pode conflitar (e o H2 não aceita alvo)
+     */
+    String INSERIR_SE_SESSAO_ABERTA = "INSERT INTO votos (id, sessao_votacao_id, cpf_associado, opcao, data_hora) " +
+            "SELECT :id, s.id, :cpf, :opcao, :dataHora FROM sessoes_votacao s " +
+            "WHERE s.id = :sessaoId AND s.status = 'ABERTA' AND s.data_fechamento > :dataHora " +
+            "ON CONFLICT DO NOTHING";
 
-    @Query("SELECT COUNT(v) FROM Voto v WHERE v.sessaoVotacao.id = :sessaoId AND v.opcao = :opcao")
-    Long countBySessaoAndOpcao(UUID sessaoId, OpcaoVoto opcao);
+    @Modifying
+    @Query(nativeQuery = true, value = INSERIR_SE_SESSAO_ABERTA)
+    int inserirSeSessaoAberta(UUID id, UUID sessaoId, long cpf, String opcao, LocalDateTime dataHora);
 
-    @Query("SELECT COUNT(v) FROM Voto v WHERE v.sessaoVotacao.id = :sessaoId")
-    Long countBySessaoId(UUID sessaoId);
+    /**
+     * Desfaz votos recém-gravados da sessão, na mesma transação em que foram inseridos.
+     */
+    @Modifying
+    @Query("DELETE FROM Voto v WHERE v.sessaoVotacao.id = :sessaoId AND v.id IN :ids")
+    int deleteBySessaoAndIds(UUID sessaoId, Collection<UUID> ids);
+
+    /**
+     * Entre os CPFs informados, retorna os que já votaram na sessão (uma consulta com IN).
+     */
+    default List<Cpf> findCpfsQueJaVotaram(UUID sessaoId, Collection<Cpf> cpfs) {
+        return findValoresCpfQueJaVotaram(sessaoId, cpfs).stream().map(Cpf::new).toList();
+    }
+
+    // Seleciona o BIGINT: com o record Cpf como retorno o Spring Data reescreveria a consulta como "SELECT new Cpf(...)"
+    @Query("SELECT CAST(v.cpfAssociado AS Long) FROM Voto v WHERE v.sessaoVotacao.id = :sessaoId AND v.cpfAssociado IN :cpfs")
+    List<Long> findValoresCpfQueJaVotaram(UUID sessaoId, Collection<Cpf> cpfs);
+
+    /**
+     * Página dos CPFs que votaram na sessão, em ordem, a partir do CPF seguinte a {@code aposCpf}
+     * (keyset sobre {@code uk_sessao_cpf}; -1 para a primeira página).
+     */
+    @Query("SELECT CAST(v.cpfAssociado AS Long) FROM Voto v " +
+            "WHERE v.sessaoVotacao.id = :sessaoId AND CAST(v.cpfAssociado AS Long) > :aposCpf " +
+            "ORDER BY v.cpfAssociado")
+    List<Long> findValoresCpfBySessao(UUID sessaoId, long aposCpf, Limit limite);
 }
@@ -0,0 +1,24 @@
+package com.desafio.votacao.domain.repository.projection;
+
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.StatusSessao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha da apuração agrupada por opção de voto.
+ * Os dados da sessão e da pauta se repetem em cada linha; sessões sem votos
+ * retornam uma única linha com opcao nula e quantidade zero.
+ */
+public record ContagemVotosProjection(
+        UUID sessaoId,
+        UUID pautaId,
+        String tituloPauta,
+        StatusSessao status,
+        LocalDateTime dataAbertura,
+        LocalDateTime dataFechamento,
+        OpcaoVoto opcao,
+        Long quantidade
+) {
+}
@@ -0,0 +1,27 @@
+package com.desafio.votacao.domain.repository.projection;
+
+import com.desafio.votacao.domain.model.StatusSessao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pauta com os dados da sua sessão, lida em uma única linha na listagem.
+ * Os campos da sessão são nulos para pautas sem sessão aberta.
+ */
+public record PautaResumoProjection(
+        UUID id,
+        String titulo,
+        String descricao,
+        LocalDateTime dataCriacao,
+        UUID sessaoId,
+        LocalDateTime dataAbertura,
+        LocalDateTime dataFechamento,
+        StatusSessao status,
+        Integer duracaoSegundos
+) {
+
+    public boolean possuiSessao() {
+        return sessaoId != null;
+    }
+}
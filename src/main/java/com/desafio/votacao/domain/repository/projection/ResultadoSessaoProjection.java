@@ -0,0 +1,27 @@
+package com.desafio.votacao.domain.repository.projection;
+
+import com.desafio.votacao.domain.model.StatusSessao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Sessão com o título da pauta e os totais materializados em {@code apuracoes_sessao}.
+ * Os totais são nulos para sessões sem linha de apuração.
+ */
+public record ResultadoSessaoProjection(
+        UUID sessaoId,
+        UUID pautaId,
+        String tituloPauta,
+        StatusSessao status,
+        LocalDateTime dataAbertura,
+        LocalDateTime dataFechamento,
+        Long totalVotos,
+        Long votosSim,
+        Long votosNao
+) {
+
+    public boolean possuiApuracao() {
+        return totalVotos != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.desafio.votacao.domain.repository.projection;
+
+import com.desafio.votacao.domain.model.StatusSessao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados da sessão devolvidos pela API, lidos em uma única linha sem carregar a pauta.
+ */
+public record SessaoResumoProjection(
+        UUID id,
+        UUID pautaId,
+        LocalDateTime dataAbertura,
+        LocalDateTime dataFechamento,
+        StatusSessao status,
+        Integer duracaoSegundos
+) {
+}
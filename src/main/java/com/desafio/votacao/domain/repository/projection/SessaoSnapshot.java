@@ -0,0 +1,22 @@
+package com.desafio.votacao.domain.repository.projection;
+
+import com.desafio.votacao.domain.model.SessaoVotacao;
+import com.desafio.votacao.domain.model.StatusSessao;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados da sessão usados no caminho do voto, sem carregar a pauta.
+ */
+public record SessaoSnapshot(
+        UUID id,
+        UUID pautaId,
+        LocalDateTime dataFechamento,
+        StatusSessao status
+) {
+
+    public boolean isAberta() {
+        return SessaoVotacao.isAberta(status, dataFechamento);
+    }
+}
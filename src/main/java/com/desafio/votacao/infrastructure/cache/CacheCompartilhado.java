@@ -0,0 +1,36 @@
+package com.desafio.votacao.infrastructure.cache;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Segundo nível de cache, compartilhado entre as instâncias da aplicação.
+ * <p>
+ * Uma implementação remota (Redis, por exemplo) grava os valores serializados e, em
+ * {@link #remover} e {@link #limpar}, publica a invalidação para que as demais instâncias
+ * descartem a cópia do primeiro nível.
+ */
+public interface CacheCompartilhado {
+
+    /**
+     * @return o valor armazenado ou {@code null} se a chave não existir
+     */
+    Object buscar(String cache, Object chave);
+
+    void gravar(String cache, Object chave, Object valor);
+
+    /**
+     * Remove a chave e notifica todas as instâncias.
+     */
+    void remover(String cache, Object chave);
+
+    /**
+     * Remove todas as chaves do cache e notifica todas as instâncias.
+     */
+    void limpar(String cache);
+
+    /**
+     * Registra o ouvinte das invalidações publicadas por qualquer instância, inclusive a atual.
+     * A chave é {@code null} quando o cache inteiro foi limpo.
+     */
+    void aoInvalidar(BiConsumer<String, Object> ouvinte);
+}
@@ -0,0 +1,54 @@
+package com.desafio.votacao.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Segundo nível no próprio processo, para desenvolvimento e testes
+ * ({@code votacao.cache.l2.modo=em-memoria}). Guarda as referências sem serializar e entrega as
+ * invalidações de forma síncrona a todos os ouvintes registrados.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.cache.l2.modo", havingValue = "em-memoria")
+public class CacheCompartilhadoEmMemoria implements CacheCompartilhado {
+
+    private final Map<String, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, Object>> ouvintes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object buscar(String cache, Object chave) {
+        Map<Object, Object> valores = caches.get(cache);
+        return valores == null ? null : valores.get(chave);
+    }
+
+    @Override
+    public void gravar(String cache, Object chave, Object valor) {
+        caches.computeIfAbsent(cache, nome -> new ConcurrentHashMap<>()).put(chave, valor);
+    }
+
+    @Override
+    public void remover(String cache, Object chave) {
+        Map<Object, Object> valores = caches.get(cache);
+        if (valores != null) {
+            valores.remove(chave);
+        }
+        ouvintes.forEach(ouvinte -> ouvinte.accept(cache, chave));
+    }
+
+    @Override
+    public void limpar(String cache) {
+        caches.remove(cache);
+        ouvintes.forEach(ouvinte -> ouvinte.accept(cache, null));
+    }
+
+    @Override
+    public void aoInvalidar(BiConsumer<String, Object> ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+}
@@ -0,0 +1,117 @@
+package com.desafio.votacao.infrastructure.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+/**
+ * Cache Caffeine local (L1) sobre um {@link CacheCompartilhado} (L2).
+ * <p>
+ * Leituras consultam o L1 e, na falta, o L2, promovendo o valor encontrado para o L1; só então o
+ * método anotado com {@code @Cacheable} é executado. Apenas os valores aceitos por
+ * {@code compartilhavel} sobem para o L2 (resultados de sessões fechadas, que são imutáveis);
+ * os demais ficam no L1 com a política local. Remover um valor compartilhado presente no L1 o
+ * remove do L2 e invalida o L1 das outras instâncias; remoções de valores que nunca foram compartilhados, como
+ * as feitas a cada voto, continuam locais.
+ * <p>
+ * Como continua sendo um {@link CaffeineCache}, as métricas do L1 seguem registradas pelo actuator.
+ */
+public class CacheDoisNiveis extends CaffeineCache {
+
+    private final CacheCompartilhado l2;
+    private final Predicate<Object> compartilhavel;
+
+    public CacheDoisNiveis(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> l1,
+                           boolean allowNullValues, CacheCompartilhado l2, Predicate<Object> compartilhavel) {
+        super(name, l1, allowNullValues);
+        this.l2 = l2;
+        this.compartilhavel = compartilhavel;
+
+        l2.aoInvalidar((cache, chave) -> {
+            if (!getName().equals(cache)) {
+                return;
+            }
+            if (chave == null) {
+                getNativeCache().invalidateAll();
+            } else {
+                getNativeCache().invalidate(chave);
+            }
+        });
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object valor = super.lookup(key);
+        if (valor != null) {
+            return valor;
+        }
+        Object compartilhado = l2.buscar(getName(), key);
+        if (compartilhado != null) {
+            getNativeCache().put(key, compartilhado);
+        }
+        return compartilhado;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            Object compartilhado = l2.buscar(getName(), key);
+            if (compartilhado != null) {
+                return (T) fromStoreValue(compartilhado);
+            }
+            T valor = valueLoader.call();
+            compartilhar(key, valor);
+            return valor;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        compartilhar(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existente = super.putIfAbsent(key, value);
+        if (existente == null) {
+            compartilhar(key, value);
+        }
+        return existente;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Object anterior = getNativeCache().asMap().remove(key);
+        if (anterior != null && compartilhavel.test(fromStoreValue(anterior))) {
+            l2.remover(getName(), key);
+        }
+        return anterior != null;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        l2.limpar(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidado = super.invalidate();
+        l2.limpar(getName());
+        return invalidado;
+    }
+
+    private void compartilhar(Object key, Object value) {
+        if (compartilhavel.test(value)) {
+            l2.gravar(getName(), key, toStoreValue(value));
+        }
+    }
+}
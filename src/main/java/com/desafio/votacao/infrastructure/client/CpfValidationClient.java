@@ -1,48 +1,49 @@
 package com.desafio.votacao.infrastructure.client;
 
 import com.desafio.votacao.domain.exception.CpfInvalidoException;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
+import com.desafio.votacao.domain.exception.ValidacaoCpfIndisponivelException;
+import com.desafio.votacao.domain.model.Cpf;
 
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-@Component
-@Slf4j
-public class CpfValidationClient {
-
-    private final Random random = new Random();
+/**
+ * Consulta se o associado pode votar (Bônus 1).
+ * <p>
+ * A implementação é escolhida por {@code votacao.cpf.validation.modo}: {@code fake} (padrão,
+ * resposta aleatória) ou {@code remoto} (serviço HTTP em {@code votacao.cpf.validation.url}).
+ */
+public interface CpfValidationClient {
 
     /**
-     * Cliente fake para validação de CPF (Bônus 1)
-     * Retorna aleatoriamente se o CPF pode votar ou não
+     * Consulta sem bloquear a thread chamadora.
      *
-     * @param cpf CPF do associado
-     * @return true se pode votar, false caso contrário
-     * @throws CpfInvalidoException se o CPF não pode votar
+     * @return future com {@code true} se o CPF pode votar e {@code false} caso contrário;
+     * completa com {@link ValidacaoCpfIndisponivelException} se o serviço não responder a tempo
      */
-    public boolean validarCpf(String cpf) {
-        log.info("Validando CPF: {}", maskCpf(cpf));
+    CompletableFuture<Boolean> validarCpfAsync(Cpf cpf);
 
-        // Simula validação externa com retorno aleatório
-        boolean canVote = random.nextBoolean();
+    /**
+     * Versão bloqueante de {@link #validarCpfAsync(Cpf)}.
+     *
+     * @return true se pode votar
+     * @throws CpfInvalidoException              se o CPF não pode votar
+     * @throws ValidacaoCpfIndisponivelException se o serviço de validação estiver indisponível
+     */
+    default boolean validarCpf(Cpf cpf) {
+        boolean podeVotar;
+        try {
+            podeVotar = validarCpfAsync(cpf).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
 
-        if (!canVote) {
-            log.warn("CPF não autorizado a votar: {}", maskCpf(cpf));
+        if (!podeVotar) {
             throw new CpfInvalidoException(cpf);
         }
-
-        log.info("CPF validado com sucesso: {}", maskCpf(cpf));
         return true;
     }
-
-    private String maskCpf(String cpf) {
-        if (cpf == null || cpf.length() < 11) {
-            return "***";
-        }
-        String cleaned = cpf.replaceAll("[^0-9]", "");
-        if (cleaned.length() < 11) {
-            return "***";
-        }
-        return cleaned.substring(0, 3) + ".***.***-" + cleaned.substring(9);
-    }
 }
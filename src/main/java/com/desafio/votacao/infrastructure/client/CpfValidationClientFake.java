@@ -0,0 +1,37 @@
+package com.desafio.votacao.infrastructure.client;
+
+import com.desafio.votacao.domain.model.Cpf;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@ConditionalOnProperty(name = "votacao.cpf.validation.modo", havingValue = "fake", matchIfMissing = true)
+@Slf4j
+public class CpfValidationClientFake implements CpfValidationClient {
+
+    /**
+     * Cliente fake para validação de CPF (Bônus 1)
+     * Retorna aleatoriamente se o CPF pode votar ou não
+     *
+     * @param cpf CPF do associado
+     * @return future já completo com true se pode votar, false caso contrário
+     */
+    @Override
+    public CompletableFuture<Boolean> validarCpfAsync(Cpf cpf) {
+        log.info("Validando CPF: {}", cpf);
+
+        // Simula validação externa com retorno aleatório (sem Random compartilhado entre threads)
+        boolean canVote = ThreadLocalRandom.current().nextBoolean();
+
+        if (!canVote) {
+            log.warn("CPF não autorizado a votar: {}", cpf);
+        } else {
+            log.info("CPF validado com sucesso: {}", cpf);
+        }
+        return CompletableFuture.completedFuture(canVote);
+    }
+}
@@ -0,0 +1,163 @@
+package com.desafio.votacao.infrastructure.client;
+
+import com.desafio.votacao.domain.exception.ValidacaoCpfIndisponivelException;
+import com.desafio.votacao.domain.model.Cpf;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cliente HTTP não bloqueante do serviço de elegibilidade de CPF.
+ * <p>
+ * {@code GET {url}/{cpf}} responde {@code {"status": "ABLE_TO_VOTE" | "UNABLE_TO_VOTE"}}
+ * e 404 para CPF inexistente. Proteções, na ordem em que são aplicadas:
+ * <ul>
+ *     <li>cache dos veredictos por {@code cache-ttl-segundos} (falhas não são guardadas);</li>
+ *     <li>circuit breaker que rejeita de imediato enquanto o serviço está falhando;</li>
+ *     <li>bulkhead: no máximo {@code max-concorrencia} chamadas em andamento; o excedente aguarda vaga
+ *     em fila por até {@code espera-vaga-ms} (lotes maiores que o limite são atendidos em ondas);</li>
+ *     <li>prazo de {@code timeout-ms} por chamada.</li>
+ * </ul>
+ * Toda indisponibilidade é reportada como {@link ValidacaoCpfIndisponivelException}.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.cpf.validation.modo", havingValue = "remoto")
+@Slf4j
+public class CpfValidationClientHttp implements CpfValidationClient {
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String url;
+    private final Duration timeout;
+    private final long esperaVagaMs;
+    private final AsyncCache<Long, Boolean> veredictos;
+    private final LimiteConcorrencia chamadasEmAndamento;
+    private final Disjuntor disjuntor;
+
+    public CpfValidationClientHttp(ObjectMapper objectMapper,
+                                   @Value("${votacao.cpf.validation.url}") String url,
+                                   @Value("${votacao.cpf.validation.timeout-ms:2000}") long timeoutMs,
+                                   @Value("${votacao.cpf.validation.cache-ttl-segundos:300}") long cacheTtlSegundos,
+                                   @Value("${votacao.cpf.validation.cache-tamanho-maximo:100000}") long cacheTamanhoMaximo,
+                                   @Value("${votacao.cpf.validation.max-concorrencia:50}") int maxConcorrencia,
+                                   @Value("${votacao.cpf.validation.espera-vaga-ms:2000}") long esperaVagaMs,
+                                   @Value("${votacao.cpf.validation.disjuntor.falhas-para-abrir:5}") int falhasParaAbrir,
+                                   @Value("${votacao.cpf.validation.disjuntor.espera-aberto-ms:30000}") long esperaAbertoMs) {
+        this.objectMapper = objectMapper;
+        this.url = url.endsWith("/") ? url : url + "/";
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.esperaVagaMs = esperaVagaMs;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        this.veredictos = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtlSegundos, TimeUnit.SECONDS)
+                .maximumSize(cacheTamanhoMaximo)
+                .buildAsync();
+        this.chamadasEmAndamento = new LimiteConcorrencia(maxConcorrencia, esperaVagaMs);
+        // A chamada de teste já tem vaga ao passar pelo disjuntor: seu resultado sai em até timeout-ms
+        this.disjuntor = new Disjuntor(falhasParaAbrir, esperaAbertoMs, timeoutMs);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> validarCpfAsync(Cpf cpf) {
+        // Um future com falha é removido do cache automaticamente
+        return veredictos.get(cpf.valor(), (valor, executor) -> consultar(cpf));
+    }
+
+    private CompletableFuture<Boolean> consultar(Cpf cpf) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + cpf.digitos()))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        if (disjuntor.rejeitando()) {
+            return CompletableFuture.failedFuture(circuitoAberto());
+        }
+        // Só o circuito aberto rejeita de imediato; acima do limite a chamada espera a vez sem bloquear.
+        // O disjuntor é consultado de novo já com a vaga: a chamada de teste do semiaberto nunca
+        // espera vaga, e sempre chega a enviar() e registrar o resultado
+        return chamadasEmAndamento.adquirir()
+                .exceptionally(erro -> {
+                    throw new ValidacaoCpfIndisponivelException(
+                            "Limite de consultas simultâneas ao serviço de CPF atingido: sem vaga em "
+                                    + esperaVagaMs + "ms");
+                })
+                .thenCompose(vaga -> {
+                    if (!disjuntor.permitir()) {
+                        chamadasEmAndamento.liberar();
+                        return CompletableFuture.failedFuture(circuitoAberto());
+                    }
+                    return enviar(cpf, request);
+                });
+    }
+
+    private static ValidacaoCpfIndisponivelException circuitoAberto() {
+        return new ValidacaoCpfIndisponivelException("Serviço de validação de CPF indisponível (circuito aberto)");
+    }
+
+    private CompletableFuture<Boolean> enviar(Cpf cpf, HttpRequest request) {
+        log.debug("Consultando elegibilidade do CPF: {}", cpf);
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(response -> interpretar(cpf, response))
+                .whenComplete((podeVotar, erro) -> {
+                    chamadasEmAndamento.liberar();
+                    if (erro == null) {
+                        disjuntor.registrarSucesso();
+                    } else {
+                        disjuntor.registrarFalha();
+                    }
+                })
+                .exceptionally(erro -> {
+                    Throwable causa = erro instanceof CompletionException ? erro.getCause() : erro;
+                    log.warn("Falha ao consultar elegibilidade do CPF {}: {}", cpf, causa.toString());
+                    if (causa instanceof ValidacaoCpfIndisponivelException indisponivel) {
+                        throw indisponivel;
+                    }
+                    throw new ValidacaoCpfIndisponivelException(causa instanceof TimeoutException
+                            ? "Serviço de validação de CPF não respondeu em " + timeout.toMillis() + "ms"
+                            : "Falha ao consultar o serviço de validação de CPF", causa);
+                });
+    }
+
+    private boolean interpretar(Cpf cpf, HttpResponse<String> response) {
+        if (response.statusCode() == 404) {
+            log.warn("CPF não encontrado no serviço de validação: {}", cpf);
+            return false;
+        }
+        if (response.statusCode() != 200) {
+            throw new ValidacaoCpfIndisponivelException(
+                    "Serviço de validação de CPF respondeu HTTP " + response.statusCode());
+        }
+
+        try {
+            JsonNode corpo = objectMapper.readTree(response.body());
+            boolean podeVotar = "ABLE_TO_VOTE".equals(corpo.path("status").asText());
+            if (!podeVotar) {
+                log.warn("CPF não autorizado a votar: {}", cpf);
+            }
+            return podeVotar;
+        } catch (IOException e) {
+            throw new ValidacaoCpfIndisponivelException("Resposta inválida do serviço de validação de CPF", e);
+        }
+    }
+}
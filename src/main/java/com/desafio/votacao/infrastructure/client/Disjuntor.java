@@ -0,0 +1,125 @@
+package com.desafio.votacao.infrastructure.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker mínimo para o cliente de validação de CPF.
+ * <p>
+ * Abre após {@code falhasParaAbrir} falhas consecutivas e rejeita chamadas até passar
+ * {@code esperaAberto}; depois deixa passar uma única chamada de teste (semiaberto), que fecha
+ * o circuito se der certo ou o reabre se falhar. Uma chamada de teste que não informa o resultado
+ * em {@code prazoTeste} conta como falha: o circuito volta a aberto e, depois da espera, outra
+ * chamada é testada.
+ * <p>
+ * Usa {@link ReentrantLock} em vez de {@code synchronized} para não fixar (pin) virtual threads
+ * na thread portadora.
+ */
+final class Disjuntor {
+
+    enum Estado { FECHADO, ABERTO, SEMI_ABERTO }
+
+    private final int falhasParaAbrir;
+    private final long esperaAbertoNanos;
+    private final long prazoTesteNanos;
+    private final LongSupplier relogio;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Estado estado = Estado.FECHADO;
+    private int falhasConsecutivas;
+    private long abertoDesde;
+    private long testeDesde;
+
+    Disjuntor(int falhasParaAbrir, long esperaAbertoMs, long prazoTesteMs) {
+        this(falhasParaAbrir, esperaAbertoMs, prazoTesteMs, System::nanoTime);
+    }
+
+    Disjuntor(int falhasParaAbrir, long esperaAbertoMs, long prazoTesteMs, LongSupplier relogio) {
+        this.falhasParaAbrir = falhasParaAbrir;
+        this.esperaAbertoNanos = TimeUnit.MILLISECONDS.toNanos(esperaAbertoMs);
+        this.prazoTesteNanos = TimeUnit.MILLISECONDS.toNanos(prazoTesteMs);
+        this.relogio = relogio;
+    }
+
+    /**
+     * Consome a vez da chamada de teste quando a espera do circuito aberto terminou; quem recebe
+     * {@code true} deve informar o resultado com {@link #registrarSucesso()} ou {@link #registrarFalha()}.
+     *
+     * @return {@code true} se a chamada pode ser feita
+     */
+    boolean permitir() {
+        lock.lock();
+        try {
+            long agora = relogio.getAsLong();
+            expirarTeste(agora);
+            if (estado == Estado.ABERTO && agora - abertoDesde >= esperaAbertoNanos) {
+                estado = Estado.SEMI_ABERTO;
+                testeDesde = agora;
+                return true;
+            }
+            return estado == Estado.FECHADO;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checagem sem efeito colateral, para rejeitar antes de ocupar recursos.
+     *
+     * @return {@code true} se {@link #permitir()} recusaria a chamada agora
+     */
+    boolean rejeitando() {
+        lock.lock();
+        try {
+            long agora = relogio.getAsLong();
+            return switch (estado) {
+                case FECHADO -> false;
+                case ABERTO -> agora - abertoDesde < esperaAbertoNanos;
+                case SEMI_ABERTO -> agora - testeDesde < prazoTesteNanos;
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void registrarSucesso() {
+        lock.lock();
+        try {
+            estado = Estado.FECHADO;
+            falhasConsecutivas = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void registrarFalha() {
+        lock.lock();
+        try {
+            falhasConsecutivas++;
+            if (estado == Estado.SEMI_ABERTO || falhasConsecutivas >= falhasParaAbrir) {
+                estado = Estado.ABERTO;
+                abertoDesde = relogio.getAsLong();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Estado estado() {
+        lock.lock();
+        try {
+            expirarTeste(relogio.getAsLong());
+            return estado;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expirarTeste(long agora) {
+        if (estado == Estado.SEMI_ABERTO && agora - testeDesde >= prazoTesteNanos) {
+            estado = Estado.ABERTO;
+            abertoDesde = agora;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.desafio.votacao.infrastructure.client;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bulkhead assíncrono para o cliente de validação de CPF.
+ * <p>
+ * Permite até {@code maximo} chamadas em andamento. As excedentes aguardam em fila (FIFO) sem
+ * bloquear a thread chamadora: cada liberação repassa a vaga à próxima da fila. Uma espera que
+ * passa de {@code esperaMaximaMs} completa com {@link TimeoutException} e não ocupa vaga.
+ */
+final class LimiteConcorrencia {
+
+    private final Semaphore vagas;
+    private final long esperaMaximaMs;
+    private final Queue<CompletableFuture<Void>> fila = new ConcurrentLinkedQueue<>();
+
+    LimiteConcorrencia(int maximo, long esperaMaximaMs) {
+        this.vagas = new Semaphore(maximo);
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    /**
+     * @return future completado quando houver vaga; quem o recebe completo deve chamar {@link #liberar()}
+     */
+    CompletableFuture<Void> adquirir() {
+        if (fila.isEmpty() && vagas.tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> vez = new CompletableFuture<>();
+        fila.add(vez);
+        // Uma vaga pode ter sido liberada entre a tentativa e a entrada na fila
+        repassar();
+        return vez.orTimeout(esperaMaximaMs, TimeUnit.MILLISECONDS);
+    }
+
+    void liberar() {
+        vagas.release();
+        repassar();
+    }
+
+    private void repassar() {
+        while (!fila.isEmpty() && vagas.tryAcquire()) {
+            CompletableFuture<Void> proxima = fila.poll();
+            // Fila esvaziada por outra thread ou espera já expirada: a vaga volta para o semáforo
+            if (proxima == null || !proxima.complete(null)) {
+                vagas.release();
+            }
+        }
+    }
+}
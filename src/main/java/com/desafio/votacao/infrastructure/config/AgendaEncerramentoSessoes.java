@@ -0,0 +1,122 @@
+package com.desafio.votacao.infrastructure.config;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encerra cada sessão no seu prazo em vez de esperar a próxima execução do job periódico.
+ * <p>
+ * Os prazos são agrupados em fatias de {@code precisao-ms}: a primeira sessão de uma fatia agenda
+ * no {@link TaskScheduler} uma execução de {@link SessaoVotacaoScheduler#fecharSessoesExpiradas()}
+ * logo após o fim da fatia, e as demais sessões da mesma fatia reaproveitam esse agendamento.
+ * Como o encerramento é set-based, uma execução fecha todas as sessões vencidas até ali.
+ * <p>
+ * A abertura registra o prazo após o commit e a inicialização reconstrói a agenda a partir das
+ * sessões abertas no banco. Sessões abertas por outra instância, ou perdidas numa queda, são
+ * fechadas pelo job periódico, que passa a ser apenas a rede de segurança.
+ * <p>
+ * As execuções rodam num agendador próprio, de uma thread: o {@link TaskScheduler} do Spring,
+ * de uma única thread, é compartilhado com os jobs {@code @Scheduled} (transmissão de resultados,
+ * reconciliação da apuração, rede de segurança do encerramento), e qualquer um deles atrasaria o
+ * encerramento além de {@code precisao-ms}.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.sessao.encerramento.pontual.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AgendaEncerramentoSessoes {
+
+    private final SessaoVotacaoRepository sessaoRepository;
+    private final SessaoVotacaoScheduler sessaoVotacaoScheduler;
+    private final TaskScheduler taskScheduler;
+    private final long precisaoMs;
+
+    private final Set<Long> fatiasAgendadas = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public AgendaEncerramentoSessoes(SessaoVotacaoRepository sessaoRepository,
+                                     SessaoVotacaoScheduler sessaoVotacaoScheduler,
+                                     @Value("${votacao.sessao.encerramento.pontual.precisao-ms:100}") long precisaoMs) {
+        this(sessaoRepository, sessaoVotacaoScheduler, agendadorProprio(), precisaoMs);
+    }
+
+    AgendaEncerramentoSessoes(SessaoVotacaoRepository sessaoRepository,
+                              SessaoVotacaoScheduler sessaoVotacaoScheduler,
+                              TaskScheduler taskScheduler,
+                              long precisaoMs) {
+        this.sessaoRepository = sessaoRepository;
+        this.sessaoVotacaoScheduler = sessaoVotacaoScheduler;
+        this.taskScheduler = taskScheduler;
+        this.precisaoMs = precisaoMs;
+    }
+
+    private static ThreadPoolTaskScheduler agendadorProprio() {
+        // Uma thread basta: o encerramento é set-based e execuções que se acumulam fecham juntas
+        ThreadPoolTaskScheduler agendador = new ThreadPoolTaskScheduler();
+        agendador.setPoolSize(1);
+        agendador.setThreadNamePrefix("encerramento-sessoes-");
+        agendador.setDaemon(true);
+        agendador.initialize();
+        return agendador;
+    }
+
+    @PreDestroy
+    void parar() {
+        if (taskScheduler instanceof ThreadPoolTaskScheduler agendador) {
+            agendador.shutdown();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        agendar(event.dataFechamento());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        var prazos = sessaoRepository.findDatasFechamentoDeSessoesAbertas();
+        prazos.forEach(this::agendar);
+        log.info("Agenda de encerramento reconstruída: {} prazos em {} execuções", prazos.size(), fatiasAgendadas.size());
+    }
+
+    void agendar(LocalDateTime dataFechamento) {
+        long prazo = dataFechamento.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // O job fecha sessões com data de fechamento estritamente anterior ao momento da execução
+        long fimDaFatia = (prazo / precisaoMs + 1) * precisaoMs;
+
+        if (fatiasAgendadas.add(fimDaFatia)) {
+            taskScheduler.schedule(() -> encerrar(fimDaFatia), Instant.ofEpochMilli(fimDaFatia));
+        }
+    }
+
+    int execucoesAgendadas() {
+        return fatiasAgendadas.size();
+    }
+
+    private void encerrar(long fatia) {
+        fatiasAgendadas.remove(fatia);
+        try {
+            sessaoVotacaoScheduler.fecharSessoesExpiradas();
+        } catch (RuntimeException e) {
+            // O job periódico fecha as sessões desta fatia na próxima execução
+            log.error("Erro ao encerrar sessões no prazo", e);
+        }
+    }
+}
@@ -1,32 +1,91 @@
 package com.desafio.votacao.infrastructure.config;
 
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.infrastructure.cache.CacheCompartilhado;
+import com.desafio.votacao.infrastructure.cache.CacheDoisNiveis;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // Tamanho aproximado de um ResultadoVotacaoResponse sem o título da pauta, em bytes
+    private static final int PESO_BASE_RESULTADO = 256;
+
     /**
      * Configura cache com Caffeine
-     * - resultados: cache para resultados de votação (sessões fechadas são imutáveis)
-     * - Expiração: 5 minutos após escrita
-     * - Tamanho máximo: 1000 entradas
+     * - resultados: resultados de votação, com política ligada ao ciclo de vida da sessão
+     *   - Sessão aberta: expira em {@code ttl-sessao-aberta-ms} e é invalidado a cada voto confirmado
+     *   - Sessão fechada: imutável, sem expiração; descartado só pelo peso total (bytes aproximados)
+     *   - Invalidado quando o scheduler encerra a sessão
+     *   - Com um {@link CacheCompartilhado} (votacao.cache.l2.modo) os resultados finais também vão
+     *     para o L2 e são calculados uma única vez no cluster
+     * - sessoes: snapshots de sessão lidos a cada voto, invalidados no encerramento
+     *   - Expiração: 10 minutos sem acesso
+     *   - Tamanho máximo: 10000 entradas
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("resultados");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .maximumSize(1000)
-                .recordStats());
+    public CacheManager cacheManager(
+            ObjectProvider<CacheCompartilhado> cacheCompartilhado,
+            @Value("${votacao.cache.resultados.ttl-sessao-aberta-ms:1000}") long ttlSessaoAbertaMs,
+            @Value("${votacao.cache.resultados.peso-maximo-bytes:16777216}") long pesoMaximoBytes) {
+        CacheCompartilhado l2 = cacheCompartilhado.getIfAvailable();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if (l2 != null && "resultados".equals(name)) {
+                    return new CacheDoisNiveis(name, cache, isAllowNullValues(), l2, CacheConfig::sessaoFechada);
+                }
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
+        // Somente os caches registrados abaixo
+        cacheManager.setCacheNames(List.of());
+
+        Duration ttlSessaoAberta = Duration.ofMillis(ttlSessaoAbertaMs);
+        cacheManager.registerCustomCache("resultados", Caffeine.newBuilder()
+                .expireAfter(Expiry.writing((Object sessaoId, Object resultado) ->
+                        sessaoAberta(resultado) ? ttlSessaoAberta : Duration.ofNanos(Long.MAX_VALUE)))
+                .maximumWeight(pesoMaximoBytes)
+                .weigher((Object sessaoId, Object resultado) -> peso(resultado))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("sessoes", Caffeine.newBuilder()
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
 
         return cacheManager;
     }
+
+    private static boolean sessaoAberta(Object resultado) {
+        return resultado instanceof ResultadoVotacaoResponse r && r.getStatusSessao() == StatusSessao.ABERTA;
+    }
+
+    private static boolean sessaoFechada(Object resultado) {
+        return resultado instanceof ResultadoVotacaoResponse r && r.getStatusSessao() == StatusSessao.FECHADA;
+    }
+
+    private static int peso(Object resultado) {
+        if (resultado instanceof ResultadoVotacaoResponse r && r.getTituloPauta() != null) {
+            return PESO_BASE_RESULTADO + 2 * r.getTituloPauta().length();
+        }
+        return PESO_BASE_RESULTADO;
+    }
 }
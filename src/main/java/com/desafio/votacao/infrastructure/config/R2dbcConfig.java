@@ -0,0 +1,65 @@
+package com.desafio.votacao.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Acesso R2DBC do caminho reativo (perfil {@code reativo}), ao lado do DataSource JPA.
+ * <p>
+ * O pool não é exposto como {@code ConnectionFactory} nem o gerenciador de transações como bean:
+ * qualquer um dos dois faria a autoconfiguração do DataSource e do JPA recuar. Por isso a
+ * autoconfiguração R2DBC do Boot fica desligada em {@code spring.autoconfigure.exclude}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcConfig {
+
+    @Bean
+    public PoolR2dbc poolR2dbc(R2dbcProperties properties) {
+        ConnectionFactoryBuilder conexao = ConnectionFactoryBuilder.withUrl(properties.getUrl());
+        if (properties.getUsername() != null) {
+            conexao.username(properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            conexao.password(properties.getPassword());
+        }
+        ConnectionPoolConfiguration configuracao = ConnectionPoolConfiguration.builder(conexao.build())
+                .initialSize(properties.getPool().getInitialSize())
+                .maxSize(properties.getPool().getMaxSize())
+                .maxIdleTime(properties.getPool().getMaxIdleTime())
+                .build();
+        return new PoolR2dbc(new ConnectionPool(configuracao));
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(PoolR2dbc pool) {
+        return DatabaseClient.create(pool.conexoes());
+    }
+
+    @Bean
+    public TransactionalOperator transacaoReativa(PoolR2dbc pool) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(pool.conexoes()));
+    }
+
+    /**
+     * Dono do pool de conexões R2DBC; fecha as conexões no desligamento do contexto.
+     */
+    public record PoolR2dbc(ConnectionPool conexoes) implements DisposableBean {
+
+        @Override
+        public void destroy() {
+            conexoes.dispose();
+        }
+    }
+}
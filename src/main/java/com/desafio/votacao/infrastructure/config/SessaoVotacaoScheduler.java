@@ -1,45 +1,80 @@
 package com.desafio.votacao.infrastructure.config;
 
-import com.desafio.votacao.domain.model.SessaoVotacao;
-import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
 import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SessaoVotacaoScheduler {
 
     private final SessaoVotacaoRepository sessaoRepository;
+    private final ApuracaoSessaoRepository apuracaoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+
+    public SessaoVotacaoScheduler(SessaoVotacaoRepository sessaoRepository,
+                                  ApuracaoSessaoRepository apuracaoRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${votacao.sessao.encerramento.tamanho-lote:500}") int tamanhoLote) {
+        this.sessaoRepository = sessaoRepository;
+        this.apuracaoRepository = apuracaoRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+    }
 
     /**
-     * Job que fecha automaticamente sessões expiradas
-     * Executa a cada 10 segundos
+     * Job que fecha automaticamente sessões expiradas e congela o resultado final
+     * Chamado no prazo de cada sessão por {@link AgendaEncerramentoSessoes}; a execução periódica
+     * (a cada minuto por padrão) é a rede de segurança
+     * <p>
+     * As sessões são fechadas em lotes de {@code tamanho-lote}, cada um em sua própria transação
+     * curta: os IDs são selecionados com bloqueio (pulando linhas bloqueadas por outra instância),
+     * fechados com um único UPDATE e publicados no {@link SessoesEncerradasEvent} do lote.
      */
-    @Scheduled(fixedDelay = 10000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${votacao.sessao.encerramento.intervalo-ms:60000}")
     public void fecharSessoesExpiradas() {
         LocalDateTime agora = LocalDateTime.now();
+        int total = 0;
 
-        List<SessaoVotacao> sessoesExpiradas = sessaoRepository
-                .findByStatusAndDataFechamentoBefore(StatusSessao.ABERTA, agora);
+        List<UUID> lote;
+        do {
+            lote = transactionTemplate.execute(status -> fecharLote(agora));
+            total += lote.size();
+        } while (lote.size() == tamanhoLote);
 
-        if (!sessoesExpiradas.isEmpty()) {
-            log.info("Fechando {} sessões expiradas", sessoesExpiradas.size());
+        if (total > 0) {
+            log.info("{} sessões expiradas fechadas", total);
+        }
+    }
 
-            sessoesExpiradas.forEach(sessao -> {
-                sessao.fechar();
-                sessaoRepository.save(sessao);
-                log.info("Sessão {} fechada automaticamente. Pauta: {}",
-                        sessao.getId(), sessao.getPauta().getTitulo());
-            });
+    private List<UUID> fecharLote(LocalDateTime agora) {
+        List<UUID> ids = sessaoRepository.findIdsExpiradosParaEncerrar(agora, Limit.of(tamanhoLote));
+        if (ids.isEmpty()) {
+            return ids;
         }
+
+        sessaoRepository.encerrar(ids);
+
+        // Os votos não mudam mais: o resultado passa a ser lido só de apuracoes_sessao
+        apuracaoRepository.finalizar(ids, agora);
+
+        eventPublisher.publishEvent(new SessoesEncerradasEvent(ids));
+        log.debug("Lote de {} sessões fechado: {}", ids.size(), ids);
+        return ids;
     }
 }
@@ -0,0 +1,22 @@
+package com.desafio.votacao.infrastructure.persistence;
+
+import com.desafio.votacao.domain.model.Cpf;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Persiste {@link Cpf} como BIGINT: 8 bytes por chave de índice contra os 12 de um VARCHAR(11).
+ */
+@Converter(autoApply = true)
+public class CpfConverter implements AttributeConverter<Cpf, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Cpf cpf) {
+        return cpf == null ? null : cpf.valor();
+    }
+
+    @Override
+    public Cpf convertToEntityAttribute(Long valor) {
+        return valor == null ? null : new Cpf(valor);
+    }
+}
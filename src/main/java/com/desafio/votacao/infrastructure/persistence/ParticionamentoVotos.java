@@ -0,0 +1,196 @@
+package com.desafio.votacao.infrastructure.persistence;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partições da tabela {@code votos} no Postgres, uma por sessão (migração repetível
+ * {@code R__particionamento_votos}, aplicada com o particionamento ligado).
+ * <p>
+ * A partição é criada na transação que abre a sessão, antes do commit: nenhum voto chega antes
+ * dela. É criada como tabela avulsa e anexada com {@code ATTACH PARTITION}, que não bloqueia os
+ * inserts nas demais sessões como o {@code CREATE TABLE ... PARTITION OF} bloquearia. Não há
+ * partição padrão: se a criação falhar, a abertura da sessão falha junto.
+ * <p>
+ * A cada {@code arquivamento-intervalo-ms}, {@link #arquivar(LocalDateTime)} desanexa as partições
+ * de sessões finalizadas há mais de {@code retencao-dias} com {@code DETACH PARTITION ... CONCURRENTLY},
+ * fora de transação, e as move para o schema {@code arquivo}. O resultado dessas sessões continua em
+ * {@code apuracoes_sessao}. O arquivamento roda numa thread própria, fora do agendador do
+ * encerramento: uma espera por lock no DDL não atrasa o fechamento das sessões.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.voto.particionamento.enabled", havingValue = "true")
+@Slf4j
+public class ParticionamentoVotos {
+
+    static final String SCHEMA_ARQUIVO = "arquivo";
+
+    private static final String PARTICOES_PARA_ARQUIVAR = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN apuracoes_sessao a ON c.relname = 'votos_' || replace(a.sessao_votacao_id::text, '-', '')
+            WHERE i.inhparent = 'votos'::regclass
+              AND NOT i.inhdetachpending
+              AND a.finalizada_em < ?
+            ORDER BY a.finalizada_em
+            LIMIT ?
+            """;
+
+    // DETACH CONCURRENTLY interrompido (lock_timeout, queda da conexão): fica pendente até o FINALIZE
+    private static final String DESANEXACOES_PENDENTES = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'votos'::regclass
+              AND i.inhdetachpending
+            """;
+
+    // Desanexadas, mas não movidas para o arquivo (falha entre o DETACH e o SET SCHEMA)
+    private static final String DESANEXADAS_FORA_DO_ARQUIVO = """
+            SELECT c.relname
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = current_schema()
+              AND c.relkind = 'r'
+              AND c.relname ~ '^votos_[0-9a-f]{32}$'
+              AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retencaoDias;
+    private final int loteArquivamento;
+    private final long lockTimeoutMs;
+    private final long intervaloArquivamentoMs;
+    private final ScheduledExecutorService arquivamento;
+
+    public ParticionamentoVotos(JdbcTemplate jdbcTemplate,
+                                @Value("${votacao.voto.particionamento.retencao-dias:30}") int retencaoDias,
+                                @Value("${votacao.voto.particionamento.lote-arquivamento:50}") int loteArquivamento,
+                                @Value("${votacao.voto.particionamento.lock-timeout-ms:2000}") long lockTimeoutMs,
+                                @Value("${votacao.voto.particionamento.arquivamento-intervalo-ms:3600000}") long intervaloArquivamentoMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retencaoDias = retencaoDias;
+        this.loteArquivamento = loteArquivamento;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.intervaloArquivamentoMs = intervaloArquivamentoMs;
+        this.arquivamento = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("arquivamento-votos").daemon().factory());
+    }
+
+    @PostConstruct
+    void iniciar() {
+        arquivamento.scheduleWithFixedDelay(this::arquivarAgendado,
+                intervaloArquivamentoMs, intervaloArquivamentoMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void parar() {
+        arquivamento.shutdownNow();
+    }
+
+    static String nomeParticao(UUID sessaoId) {
+        return "votos_" + sessaoId.toString().replace("-", "");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        String particao = nomeParticao(event.sessaoId());
+        // Uma falha aqui desfaz a abertura: sem partição padrão, os votos da sessão não teriam onde ficar
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+        jdbcTemplate.execute("CREATE TABLE " + particao + " (LIKE votos INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.execute("ALTER TABLE votos ATTACH PARTITION " + particao
+                + " FOR VALUES IN ('" + event.sessaoId() + "')");
+        jdbcTemplate.execute("SET LOCAL lock_timeout = DEFAULT");
+        log.debug("Partição {} criada para a sessão {}", particao, event.sessaoId());
+    }
+
+    /**
+     * Conclui desanexações interrompidas e desanexa e arquiva até {@code lote-arquivamento}
+     * partições de sessões finalizadas antes da retenção. Deve rodar fora de transação.
+     *
+     * @return quantidade de partições arquivadas
+     */
+    public int arquivar(LocalDateTime agora) {
+        // O Postgres admite uma única desanexação pendente por tabela: conclui antes de começar outras
+        for (String particao : jdbcTemplate.queryForList(DESANEXACOES_PENDENTES, String.class)) {
+            if (!executarSemTransacao(particao, "ALTER TABLE votos DETACH PARTITION " + particao + " FINALIZE")) {
+                return 0;
+            }
+        }
+
+        List<String> particoes = jdbcTemplate.queryForList(PARTICOES_PARA_ARQUIVAR, String.class,
+                agora.minusDays(retencaoDias), loteArquivamento);
+
+        int arquivadas = 0;
+        for (String particao : particoes) {
+            if (executarSemTransacao(particao, "ALTER TABLE votos DETACH PARTITION " + particao + " CONCURRENTLY")) {
+                arquivadas++;
+            }
+        }
+
+        // Move as desanexadas agora e as que sobraram de execuções anteriores
+        for (String particao : jdbcTemplate.queryForList(DESANEXADAS_FORA_DO_ARQUIVO, String.class)) {
+            executarSemTransacao(particao, "ALTER TABLE " + particao + " SET SCHEMA " + SCHEMA_ARQUIVO);
+        }
+
+        if (arquivadas > 0) {
+            log.info("{} partições de votos arquivadas no schema {}", arquivadas, SCHEMA_ARQUIVO);
+        }
+        return arquivadas;
+    }
+
+    private void arquivarAgendado() {
+        try {
+            arquivar(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria as próximas execuções do agendamento
+            log.error("Erro ao arquivar partições de votos", e);
+        }
+    }
+
+    /**
+     * Executa o DDL em autocommit, exigido pelo {@code CONCURRENTLY}, com {@code lock_timeout}
+     * restaurado antes de a conexão voltar ao pool.
+     *
+     * @return false se o comando falhou; a partição é tentada de novo no próximo arquivamento
+     */
+    private boolean executarSemTransacao(String particao, String ddl) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) conexao -> {
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("SET lock_timeout = " + lockTimeoutMs);
+                    try {
+                        statement.execute(ddl);
+                    } finally {
+                        statement.execute("RESET lock_timeout");
+                    }
+                }
+                return null;
+            });
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Partição {} não arquivada, nova tentativa no próximo arquivamento: {}",
+                    particao, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.desafio.votacao.infrastructure.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUID versão 7 (RFC 9562).
+ * <p>
+ * Os 48 bits mais altos guardam o timestamp em milissegundos, então chaves geradas em sequência
+ * caem sempre no fim do índice B-tree em vez de espalhadas pela árvore inteira como no UUID v4.
+ * Os 12 bits de {@code rand_a} funcionam como contador dentro do mesmo milissegundo, o que mantém
+ * os ids estritamente crescentes neste processo; os 62 bits restantes são aleatórios.
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final long VERSAO = 0x7000L;
+    private static final long VARIANTE = 0x8000_0000_0000_0000L;
+    private static final long MASCARA_VARIANTE = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    // timestamp (48 bits) << 12 | contador (12 bits) do último id gerado
+    private static final AtomicLong ULTIMO = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return gerar();
+    }
+
+    public static UUID gerar() {
+        long atual = proximoTimestampComContador();
+        long msb = (atual >>> 12) << 16 | VERSAO | (atual & 0xFFF);
+        long lsb = ThreadLocalRandom.current().nextLong() & MASCARA_VARIANTE | VARIANTE;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Se o relógio não avançou (ou voltou), incrementa o contador; ao estourar os 12 bits o
+     * timestamp avança 1ms, o que a RFC permite para preservar a ordenação.
+     */
+    private static long proximoTimestampComContador() {
+        while (true) {
+            long anterior = ULTIMO.get();
+            long candidato = System.currentTimeMillis() << 12;
+            if (candidato <= anterior) {
+                candidato = anterior + 1;
+            }
+            if (ULTIMO.compareAndSet(anterior, candidato)) {
+                return candidato;
+            }
+        }
+    }
+}
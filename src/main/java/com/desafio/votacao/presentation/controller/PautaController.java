@@ -1,20 +1,23 @@
 package com.desafio.votacao.presentation.controller;
 
 import com.desafio.votacao.application.dto.request.CriarPautaRequest;
+import com.desafio.votacao.application.dto.response.PaginaPautasResponse;
 import com.desafio.votacao.application.dto.response.PautaResponse;
 import com.desafio.votacao.application.service.PautaService;
+import com.desafio.votacao.domain.model.StatusSessao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/pautas")
 @RequiredArgsConstructor
 @Tag(name = "Pautas", description = "Gerenciamento de pautas de votação")
@@ -37,9 +40,14 @@ public class PautaController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todas as pautas", description = "Retorna todas as pautas cadastradas")
-    public ResponseEntity<List<PautaResponse>> listarPautas() {
-        List<PautaResponse> response = pautaService.listarTodas();
+    @Operation(summary = "Listar pautas",
+            description = "Retorna as pautas das mais recentes para as mais antigas, paginadas por cursor. "
+                    + "Para a próxima página, envie o proximoCursor da resposta anterior")
+    public ResponseEntity<PaginaPautasResponse> listarPautas(
+            @RequestParam(required = false) StatusSessao status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaPautasResponse response = pautaService.listar(status, cursor, tamanho);
         return ResponseEntity.ok(response);
     }
 }
@@ -4,23 +4,29 @@ import com.desafio.votacao.application.dto.request.AbrirSessaoRequest;
 import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
 import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
 import com.desafio.votacao.application.service.SessaoVotacaoService;
+import com.desafio.votacao.application.service.TransmissaoResultados;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/sessoes")
 @RequiredArgsConstructor
 @Tag(name = "Sessões de Votação", description = "Gerenciamento de sessões de votação")
 public class SessaoVotacaoController {
 
     private final SessaoVotacaoService sessaoService;
+    private final TransmissaoResultados transmissaoResultados;
 
     @PostMapping
     @Operation(summary = "Abrir sessão de votação", description = "Abre uma nova sessão de votação para uma pauta")
@@ -42,4 +48,12 @@ public class SessaoVotacaoController {
         ResultadoVotacaoResponse response = sessaoService.obterResultado(id);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping(value = "/{id}/resultado/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar resultado da votação",
+            description = "Transmite o resultado por Server-Sent Events: eventos 'resultado' a cada atualização "
+                    + "e um evento 'encerrada' com o resultado final quando a sessão fecha")
+    public SseEmitter acompanharResultado(@PathVariable UUID id) {
+        return transmissaoResultados.assinar(id);
+    }
 }
@@ -0,0 +1,33 @@
+package com.desafio.votacao.presentation.controller;
+
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.application.service.ResultadoReativoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Consulta de resultado no perfil {@code reativo}. Abertura de sessões e pautas continua nas
+ * instâncias servlet.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/sessoes")
+@RequiredArgsConstructor
+@Tag(name = "Sessões de Votação", description = "Gerenciamento de sessões de votação")
+public class SessaoVotacaoReativoController {
+
+    private final ResultadoReativoService resultadoService;
+
+    @GetMapping("/{id}/resultado")
+    @Operation(summary = "Obter resultado da votação", description = "Retorna o resultado contabilizado de uma sessão de votação")
+    public Mono<ResponseEntity<ResultadoVotacaoResponse>> obterResultado(@PathVariable UUID id) {
+        return resultadoService.obterResultado(id).map(ResponseEntity::ok);
+    }
+}
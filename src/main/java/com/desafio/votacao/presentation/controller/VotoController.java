@@ -1,28 +1,62 @@
 package com.desafio.votacao.presentation.controller;
 
 import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.ItemLoteVotoResponse;
 import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.application.service.IngestaoVotosEmLote;
+import com.desafio.votacao.application.service.VotoLoteService;
 import com.desafio.votacao.application.service.VotoService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/votos")
 @RequiredArgsConstructor
 @Tag(name = "Votos", description = "Registro de votos em sessões de votação")
 public class VotoController {
 
     private final VotoService votoService;
+    private final VotoLoteService votoLoteService;
+    private final Optional<IngestaoVotosEmLote> ingestaoEmLote;
 
+    /**
+     * Responde {@code ResponseEntity} direto, sem despacho assíncrono, quando a ingestão em lote está
+     * desabilitada; com ela habilitada devolve o {@link CompletableFuture} completado quando o lote
+     * do voto é confirmado. O Spring MVC escolhe o tratamento pelo tipo do valor retornado.
+     */
     @PostMapping
     @Operation(summary = "Registrar voto", description = "Registra o voto de um associado em uma sessão de votação")
-    public ResponseEntity<VotoResponse> registrarVoto(@Valid @RequestBody RegistrarVotoRequest request) {
-        VotoResponse response = votoService.registrarVoto(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    @ApiResponse(responseCode = "201", content = @Content(schema = @Schema(implementation = VotoResponse.class)))
+    public Object registrarVoto(@Valid @RequestBody RegistrarVotoRequest request) {
+        if (ingestaoEmLote.isEmpty()) {
+            return criado(votoService.registrarVoto(request));
+        }
+        return ingestaoEmLote.get().registrar(request).thenApply(VotoController::criado);
+    }
+
+    @PostMapping("/lote")
+    @Operation(summary = "Registrar votos em lote",
+            description = "Registra votos de uma ou mais sessões e retorna o status de cada item, na ordem recebida")
+    public ResponseEntity<List<ItemLoteVotoResponse>> registrarVotosEmLote(@RequestBody List<RegistrarVotoRequest> request) {
+        List<ItemLoteVotoResponse> response = votoLoteService.registrarVotos(request);
+        return ResponseEntity.ok(response);
+    }
+
+    private static ResponseEntity<VotoResponse> criado(VotoResponse voto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(voto);
     }
 }
@@ -0,0 +1,34 @@
+package com.desafio.votacao.presentation.controller;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.application.service.VotoReativoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registro de votos no perfil {@code reativo} (WebFlux + R2DBC).
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/votos")
+@RequiredArgsConstructor
+@Tag(name = "Votos", description = "Registro de votos em sessões de votação")
+public class VotoReativoController {
+
+    private final VotoReativoService votoService;
+
+    @PostMapping
+    @Operation(summary = "Registrar voto", description = "Registra o voto de um associado em uma sessão de votação")
+    public Mono<ResponseEntity<VotoResponse>> registrarVoto(@Valid @RequestBody RegistrarVotoRequest request) {
+        return votoService.registrarVoto(request)
+                .map(voto -> ResponseEntity.status(HttpStatus.CREATED).body(voto));
+    }
+}
@@ -0,0 +1,131 @@
+package com.desafio.votacao.presentation.exception;
+
+import com.desafio.votacao.domain.exception.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Respostas de erro do perfil {@code reativo}, com o mesmo formato e os mesmos status de
+ * {@link GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class GlobalExceptionHandlerReativo {
+
+    @ExceptionHandler(SessaoVotacaoNaoEncontradaException.class)
+    public ResponseEntity<ErrorResponse> handleSessaoNaoEncontrada(
+            SessaoVotacaoNaoEncontradaException ex,
+            ServerHttpRequest request) {
+        log.error("Sessão não encontrada: {}", ex.getMessage());
+        return resposta(HttpStatus.NOT_FOUND, "Sessão Não Encontrada", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(SessaoFechadaException.class)
+    public ResponseEntity<ErrorResponse> handleSessaoFechada(
+            SessaoFechadaException ex,
+            ServerHttpRequest request) {
+        log.warn("Tentativa de voto em sessão fechada: {}", ex.getMessage());
+        return resposta(HttpStatus.UNPROCESSABLE_ENTITY, "Sessão Fechada", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(VotoJaRegistradoException.class)
+    public ResponseEntity<ErrorResponse> handleVotoJaRegistrado(
+            VotoJaRegistradoException ex,
+            ServerHttpRequest request) {
+        log.warn("Voto duplicado: {}", ex.getMessage());
+        return resposta(HttpStatus.CONFLICT, "Voto Duplicado", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(CpfInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleCpfInvalido(
+            CpfInvalidoException ex,
+            ServerHttpRequest request) {
+        log.warn("CPF inválido ou não autorizado: {}", ex.getMessage());
+        return resposta(HttpStatus.NOT_FOUND, "CPF Inválido", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ValidacaoCpfIndisponivelException.class)
+    public ResponseEntity<ErrorResponse> handleValidacaoCpfIndisponivel(
+            ValidacaoCpfIndisponivelException ex,
+            ServerHttpRequest request) {
+        log.warn("Validação de CPF indisponível: {}", ex.getMessage());
+        return resposta(HttpStatus.SERVICE_UNAVAILABLE, "Serviço Indisponível", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(
+            IllegalArgumentException ex,
+            ServerHttpRequest request) {
+        log.warn("Requisição inválida: {}", ex.getMessage());
+        return resposta(HttpStatus.BAD_REQUEST, "Requisição Inválida", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(
+            WebExchangeBindException ex,
+            ServerHttpRequest request) {
+        log.warn("Erro de validação: {}", ex.getMessage());
+
+        List<ErrorResponse.FieldError> fieldErrors = ex.getFieldErrors()
+                .stream()
+                .map(error -> ErrorResponse.FieldError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage())
+                        .build())
+                .toList();
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Erro de Validação")
+                .message("Um ou mais campos possuem valores inválidos")
+                .path(request.getPath().value())
+                .errors(fieldErrors)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(
+            ResponseStatusException ex,
+            ServerHttpRequest request) {
+        log.warn("Requisição rejeitada: {}", ex.getMessage());
+        String erro = ex.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND) ? "Recurso Não Encontrado" : "Requisição Inválida";
+        return resposta(ex.getStatusCode(), erro, ex.getReason(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+        log.error("Erro interno do servidor: {}", ex.getMessage(), ex);
+        return resposta(HttpStatus.INTERNAL_SERVER_ERROR, "Erro Interno",
+                "Ocorreu um erro inesperado. Por favor, tente novamente mais tarde.", request);
+    }
+
+    private ResponseEntity<ErrorResponse> resposta(HttpStatusCode status, String erro, String mensagem,
+                                                   ServerHttpRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(erro)
+                .message(mensagem)
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(status).body(error);
+    }
+}
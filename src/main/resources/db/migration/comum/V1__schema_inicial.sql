@@ -0,0 +1,45 @@
+-- Schema gerado pelo ddl-auto até a adoção das migrações, com os mesmos nomes de restrições.
+-- Bancos já existentes entram no histórico nesta versão (baseline-on-migrate no perfil prod)
+-- e recebem as demais versões normalmente.
+
+CREATE TABLE pautas (
+    id           UUID          NOT NULL,
+    data_criacao TIMESTAMP(6)  NOT NULL,
+    descricao    VARCHAR(1000) NOT NULL,
+    titulo       VARCHAR(200)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE sessoes_votacao (
+    id               UUID         NOT NULL,
+    data_abertura    TIMESTAMP(6) NOT NULL,
+    data_fechamento  TIMESTAMP(6) NOT NULL,
+    duracao_segundos INTEGER      NOT NULL,
+    status           VARCHAR(255) NOT NULL CHECK (status IN ('ABERTA', 'FECHADA')),
+    version          BIGINT,
+    pauta_id         UUID         NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE votos (
+    id                UUID         NOT NULL,
+    cpf_associado     VARCHAR(11)  NOT NULL,
+    data_hora         TIMESTAMP(6) NOT NULL,
+    opcao             VARCHAR(255) NOT NULL CHECK (opcao IN ('SIM', 'NAO')),
+    sessao_votacao_id UUID         NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE sessoes_votacao ADD CONSTRAINT UKp1dbx0uj3qyjfi0kdkba8964v UNIQUE (pauta_id);
+
+CREATE INDEX idx_sessao_id ON votos (sessao_votacao_id);
+
+CREATE INDEX idx_cpf_associado ON votos (cpf_associado);
+
+ALTER TABLE votos ADD CONSTRAINT uk_sessao_cpf UNIQUE (sessao_votacao_id, cpf_associado);
+
+ALTER TABLE sessoes_votacao ADD CONSTRAINT FKbkf9t2a5weycjn82kgvw2wb3x
+    FOREIGN KEY (pauta_id) REFERENCES pautas;
+
+ALTER TABLE votos ADD CONSTRAINT FKp7te40d3tifnnih1gw22t9jam
+    FOREIGN KEY (sessao_votacao_id) REFERENCES sessoes_votacao;
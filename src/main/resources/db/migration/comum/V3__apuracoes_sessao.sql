@@ -0,0 +1,22 @@
+-- Totais materializados por sessão, atualizados na transação de cada voto e congelados
+-- (finalizada_em) no encerramento. Sessões já existentes recebem os totais contados em votos;
+-- as encerradas entram finalizadas no prazo em que fecharam.
+
+CREATE TABLE apuracoes_sessao (
+    sessao_votacao_id UUID         NOT NULL,
+    total_votos       BIGINT       NOT NULL,
+    votos_sim         BIGINT       NOT NULL,
+    votos_nao         BIGINT       NOT NULL,
+    finalizada_em     TIMESTAMP(6),
+    CONSTRAINT pk_apuracoes_sessao PRIMARY KEY (sessao_votacao_id)
+);
+
+INSERT INTO apuracoes_sessao (sessao_votacao_id, total_votos, votos_sim, votos_nao, finalizada_em)
+SELECT s.id,
+       COUNT(v.id),
+       COALESCE(SUM(CASE WHEN v.opcao = 'SIM' THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN v.opcao = 'NAO' THEN 1 ELSE 0 END), 0),
+       CASE WHEN s.status = 'FECHADA' THEN s.data_fechamento END
+FROM sessoes_votacao s
+LEFT JOIN votos v ON v.sessao_votacao_id = s.id
+GROUP BY s.id, s.status, s.data_fechamento;
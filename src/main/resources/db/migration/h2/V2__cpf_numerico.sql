@@ -0,0 +1,2 @@
+-- Mesma conversão de postgresql/V2, na sintaxe do H2.
+ALTER TABLE votos ALTER COLUMN cpf_associado SET DATA TYPE BIGINT;
@@ -0,0 +1,19 @@
+-- Mesmo conjunto de índices de postgresql/V4, adaptado ao H2.
+
+-- No H2 a chave estrangeira de votos usa idx_sessao_id; recriada, passa a usar outro índice
+ALTER TABLE votos DROP CONSTRAINT FKp7te40d3tifnnih1gw22t9jam;
+
+DROP INDEX IF EXISTS idx_sessao_id;
+
+ALTER TABLE votos ADD CONSTRAINT FKp7te40d3tifnnih1gw22t9jam
+    FOREIGN KEY (sessao_votacao_id) REFERENCES sessoes_votacao;
+
+DROP INDEX IF EXISTS idx_cpf_associado;
+
+CREATE INDEX idx_voto_sessao_opcao ON votos (sessao_votacao_id, opcao);
+
+-- O H2 não tem índice parcial: o status entra como primeira coluna
+CREATE INDEX idx_sessao_aberta_fechamento ON sessoes_votacao (status, data_fechamento);
+
+-- Listagem de pautas por keyset (data_criacao, id)
+CREATE INDEX idx_pauta_data_criacao_id ON pautas (data_criacao, id);
@@ -0,0 +1,53 @@
+-- Particiona votos por sessão (LIST em sessao_votacao_id) quando votacao.voto.particionamento.enabled
+-- está ligado (placeholder particionamento, em spring.flyway.placeholders): cada sessão tem sua própria
+-- partição, de modo que os índices de uma sessão em andamento ficam do tamanho dela e não do histórico.
+-- Repetível: roda de novo quando o valor do placeholder muda e não faz nada com votos já particionada
+-- (desligar o particionamento depois não desfaz a conversão).
+-- A unicidade (sessao_votacao_id, cpf_associado) já contém a chave de partição; a chave primária
+-- passa a incluí-la. Não há partição padrão: a abertura da sessão cria a partição dela ou falha, e o
+-- ParticionamentoVotos desanexa (CONCURRENTLY) e move para o schema arquivo as partições de sessões
+-- encerradas há mais de votacao.voto.particionamento.retencao-dias.
+
+DO $$
+DECLARE
+    sessao RECORD;
+BEGIN
+    IF '${particionamento}' <> 'true'
+       OR EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'votos'::regclass) THEN
+        RETURN;
+    END IF;
+
+    CREATE TABLE votos_particionada (
+        id                UUID         NOT NULL,
+        sessao_votacao_id UUID         NOT NULL,
+        cpf_associado     BIGINT       NOT NULL,
+        opcao             VARCHAR(255) NOT NULL,
+        data_hora         TIMESTAMP(6) NOT NULL,
+        CONSTRAINT pk_votos_particionada PRIMARY KEY (sessao_votacao_id, id),
+        CONSTRAINT uk_sessao_cpf_particionada UNIQUE (sessao_votacao_id, cpf_associado),
+        CONSTRAINT fk_voto_sessao_particionada FOREIGN KEY (sessao_votacao_id) REFERENCES sessoes_votacao (id),
+        CONSTRAINT ck_voto_opcao_particionada CHECK (opcao IN ('SIM', 'NAO'))
+    ) PARTITION BY LIST (sessao_votacao_id);
+
+    -- Uma partição por sessão já existente, com o mesmo nome que a abertura de sessão usa
+    FOR sessao IN SELECT id FROM sessoes_votacao LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF votos_particionada FOR VALUES IN (%L)',
+                       'votos_' || replace(sessao.id::text, '-', ''), sessao.id);
+    END LOOP;
+
+    INSERT INTO votos_particionada (id, sessao_votacao_id, cpf_associado, opcao, data_hora)
+    SELECT id, sessao_votacao_id, cpf_associado, opcao, data_hora FROM votos;
+
+    DROP TABLE votos;
+
+    ALTER TABLE votos_particionada RENAME TO votos;
+    ALTER TABLE votos RENAME CONSTRAINT pk_votos_particionada TO pk_votos;
+    ALTER TABLE votos RENAME CONSTRAINT uk_sessao_cpf_particionada TO uk_sessao_cpf;
+    ALTER TABLE votos RENAME CONSTRAINT fk_voto_sessao_particionada TO fk_voto_sessao;
+    ALTER TABLE votos RENAME CONSTRAINT ck_voto_opcao_particionada TO ck_voto_opcao;
+
+    -- Recriado em cada partição: contagem por opção respondida só pelo índice
+    CREATE INDEX idx_voto_sessao_opcao ON votos (sessao_votacao_id, opcao);
+
+    CREATE SCHEMA IF NOT EXISTS arquivo;
+END $$;
@@ -0,0 +1,3 @@
+-- CPF gravado como número (Cpf.valor()): 8 bytes em vez de até 12, e comparação de inteiros
+-- na restrição uk_sessao_cpf. Os zeros à esquerda são recompostos pela classe Cpf.
+ALTER TABLE votos ALTER COLUMN cpf_associado TYPE BIGINT USING cpf_associado::BIGINT;
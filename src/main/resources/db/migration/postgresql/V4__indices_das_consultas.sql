@@ -0,0 +1,18 @@
+-- Índices desenhados para as consultas quentes. EXPLAIN de cada uma em IndicesConsultasIntegrationTest.
+
+-- Redundante: sessao_votacao_id é a primeira coluna de uk_sessao_cpf
+DROP INDEX IF EXISTS idx_sessao_id;
+
+-- Nenhuma consulta filtra votos só pelo CPF; duplicidade e lote usam uk_sessao_cpf
+DROP INDEX IF EXISTS idx_cpf_associado;
+
+-- Contagem por opção da sessão (apuração sem totais materializados e congelamento no encerramento)
+-- respondida só pelo índice (index-only scan)
+CREATE INDEX idx_voto_sessao_opcao ON votos (sessao_votacao_id, opcao);
+
+-- Encerramento e agenda de prazos: só as sessões abertas entram no índice,
+-- que fica do tamanho das sessões em andamento e não do histórico
+CREATE INDEX idx_sessao_aberta_fechamento ON sessoes_votacao (data_fechamento) WHERE status = 'ABERTA';
+
+-- Listagem de pautas por keyset (data_criacao, id)
+CREATE INDEX idx_pauta_data_criacao_id ON pautas (data_criacao, id);
@@ -0,0 +1,199 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApuracaoEmTempoReal - Testes Unitários")
+class ApuracaoEmTempoRealTest {
+
+    private static final Cpf CPF = Cpf.of("52998224725");
+
+    @Mock
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @InjectMocks
+    private ApuracaoEmTempoReal apuracao;
+
+    private UUID sessaoId;
+    private UUID pautaId;
+    private LocalDateTime dataAbertura;
+    private LocalDateTime dataFechamento;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(apuracao, "habilitada", true);
+
+        sessaoId = UUID.randomUUID();
+        pautaId = UUID.randomUUID();
+        dataAbertura = LocalDateTime.now();
+        dataFechamento = dataAbertura.plusMinutes(5);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar votos de sessão aberta")
+    void deveContabilizarVotosDeSessaoAberta() {
+        // Given
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta", dataAbertura, dataFechamento));
+
+        // When
+        IntStream.range(0, 1000).parallel()
+                .forEach(i -> apuracao.onVotoRegistrado(
+                        new VotoRegistradoEvent(sessaoId, CPF, i % 4 == 0 ? OpcaoVoto.NAO : OpcaoVoto.SIM)));
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).hasValueSatisfying(placar -> {
+            assertThat(placar.contagens()).containsEntry(OpcaoVoto.SIM, 750L);
+            assertThat(placar.contagens()).containsEntry(OpcaoVoto.NAO, 250L);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve ignorar votos de sessão não acompanhada")
+    void deveIgnorarVotosDeSessaoNaoAcompanhada() {
+        // When
+        apuracao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.SIM));
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar placar quando sessão é encerrada")
+    void deveDescartarPlacarQuandoSessaoEncerrada() {
+        // Given
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta", dataAbertura, dataFechamento));
+
+        // When
+        apuracao.onSessoesEncerradas(new SessoesEncerradasEvent(List.of(sessaoId)));
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir placares a partir do banco")
+    void deveReconstruirPlacaresAPartirDoBanco() {
+        // Given
+        UUID sessaoEncerrada = UUID.randomUUID();
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoEncerrada, pautaId, "Pauta", dataAbertura, dataFechamento));
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta", dataAbertura, dataFechamento));
+        apuracao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.SIM));
+
+        UUID sessaoSemApuracao = UUID.randomUUID();
+        when(sessaoRepository.buscarResultadosPorStatus(StatusSessao.ABERTA)).thenReturn(List.of(
+                resultado(sessaoId, 12L, 10L, 2L),
+                resultado(sessaoSemApuracao, null, null, null)));
+
+        // When
+        apuracao.reconstruir();
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).hasValueSatisfying(placar -> {
+            assertThat(placar.contagens()).containsEntry(OpcaoVoto.SIM, 10L);
+            assertThat(placar.contagens()).containsEntry(OpcaoVoto.NAO, 2L);
+        });
+        assertThat(apuracao.buscarPlacar(sessaoEncerrada)).isEmpty();
+        assertThat(apuracao.buscarPlacar(sessaoSemApuracao)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve adiar a reconciliação do placar que recebeu votos durante a consulta")
+    void deveAdiarReconciliacaoDePlacarAlteradoDuranteConsulta() {
+        // Given: um voto é contado enquanto a consulta ao banco está em andamento
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta", dataAbertura, dataFechamento));
+        apuracao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.SIM));
+        when(sessaoRepository.buscarResultadosPorStatus(StatusSessao.ABERTA))
+                .thenAnswer(invocation -> {
+                    apuracao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.SIM));
+                    return List.of(resultado(sessaoId, 5L, 5L, 0L));
+                })
+                .thenReturn(List.of(resultado(sessaoId, 6L, 5L, 1L)));
+
+        // When
+        apuracao.reconciliar();
+
+        // Then: o placar não é sobrescrito com um total que pode não incluir o voto concorrente
+        assertThat(apuracao.buscarPlacar(sessaoId)).hasValueSatisfying(placar ->
+                assertThat(placar.contagens()).containsEntry(OpcaoVoto.SIM, 2L).containsEntry(OpcaoVoto.NAO, 0L));
+
+        // When: no ciclo seguinte o placar está estável
+        apuracao.reconciliar();
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).hasValueSatisfying(placar ->
+                assertThat(placar.contagens()).containsEntry(OpcaoVoto.SIM, 5L).containsEntry(OpcaoVoto.NAO, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve manter placar de sessão aberta durante a consulta de reconciliação")
+    void deveManterPlacarCriadoDuranteConsulta() {
+        // Given: a sessão é aberta nesta instância e recebe um voto enquanto a consulta roda
+        when(sessaoRepository.buscarResultadosPorStatus(StatusSessao.ABERTA)).thenAnswer(invocation -> {
+            apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta", dataAbertura, dataFechamento));
+            apuracao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.NAO));
+            return List.of();
+        });
+
+        // When
+        apuracao.reconciliar();
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).hasValueSatisfying(placar ->
+                assertThat(placar.contagens()).containsEntry(OpcaoVoto.NAO, 1L));
+    }
+
+    @Test
+    @DisplayName("Não deve acompanhar sessões quando desabilitada")
+    void naoDeveAcompanharSessoesQuandoDesabilitada() {
+        // Given
+        ReflectionTestUtils.setField(apuracao, "habilitada", false);
+
+        // When
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta", dataAbertura, dataFechamento));
+        apuracao.reconstruir();
+
+        // Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).isEmpty();
+        verifyNoInteractions(sessaoRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve usar placar após a data de fechamento")
+    void naoDeveUsarPlacarAposDataFechamento() {
+        // Given
+        apuracao.onSessaoAberta(new SessaoAbertaEvent(sessaoId, pautaId, "Pauta",
+                dataAbertura.minusMinutes(10), dataAbertura.minusMinutes(5)));
+
+        // When & Then
+        assertThat(apuracao.buscarPlacar(sessaoId)).isEmpty();
+    }
+
+    private ResultadoSessaoProjection resultado(UUID id, Long total, Long votosSim, Long votosNao) {
+        return new ResultadoSessaoProjection(id, pautaId, "Pauta", StatusSessao.ABERTA,
+                dataAbertura, dataFechamento, total, votosSim, votosNao);
+    }
+}
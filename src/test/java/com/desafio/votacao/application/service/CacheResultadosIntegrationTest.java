@@ -0,0 +1,103 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "votacao.apuracao.em-memoria.enabled=false",
+        "votacao.cache.resultados.ttl-sessao-aberta-ms=60000"
+})
+@AutoConfigureObservability(tracing = false)
+@DisplayName("CacheResultados - Testes de Integração")
+class CacheResultadosIntegrationTest {
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Test
+    @DisplayName("Deve invalidar o resultado de sessão aberta a cada voto confirmado")
+    void deveInvalidarResultadoDeSessaoAbertaACadaVoto() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        sessaoService.obterResultado(sessao.getId());
+        assertThat(resultadoEmCache(sessao.getId())).isNotNull();
+
+        // When
+        registrarVoto(sessao);
+
+        // Then
+        assertThat(resultadoEmCache(sessao.getId())).isNull();
+        assertThat(sessaoService.obterResultado(sessao.getId()).getTotalVotos()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve substituir o resultado em cache quando a sessão é encerrada")
+    void deveSubstituirResultadoNoEncerramento() throws InterruptedException {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService, 1);
+        registrarVoto(sessao);
+        assertThat(sessaoService.obterResultado(sessao.getId()).getStatusSessao()).isEqualTo(StatusSessao.ABERTA);
+        Thread.sleep(1100);
+
+        // When
+        sessaoVotacaoScheduler.fecharSessoesExpiradas();
+
+        // Then
+        assertThat(resultadoEmCache(sessao.getId())).isNull();
+        assertThat(sessaoService.obterResultado(sessao.getId()).getStatusSessao()).isEqualTo(StatusSessao.FECHADA);
+        assertThat(sessaoService.obterResultado(sessao.getId()).getTotalVotos()).isEqualTo(1L);
+        assertThat(prometheusMeterRegistry.scrape())
+                .contains("cache_gets_total{cache=\"resultados\"", "result=\"hit\"");
+    }
+
+    private Object resultadoEmCache(UUID sessaoId) {
+        Cache.ValueWrapper valor = cacheManager.getCache(CacheResultados.CACHE).get(sessaoId);
+        return valor == null ? null : valor.get();
+    }
+
+    private void registrarVoto(SessaoVotacaoResponse sessao) {
+        votoService.registrarVoto(RegistrarVotoRequest.builder()
+                .sessaoId(sessao.getId())
+                .cpf(GeradorCpf.proximo())
+                .opcao(OpcaoVoto.SIM)
+                .build());
+    }
+}
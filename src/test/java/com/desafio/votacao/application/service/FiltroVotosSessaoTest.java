@@ -0,0 +1,189 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.VotoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiltroVotosSessao - Testes Unitários")
+class FiltroVotosSessaoTest {
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Runnable> reconstrucoes;
+    private FiltroVotosSessao filtro;
+    private UUID sessaoId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconstrucoes = new ArrayList<>();
+        filtro = new FiltroVotosSessao(votoRepository, apuracaoRepository, meterRegistry, true, 10_000, 0.01,
+                reconstrucoes::add);
+        sessaoId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Não deve ter falsos negativos para CPFs registrados")
+    void naoDeveTerFalsosNegativos() {
+        // Given
+        abrirSessao();
+        List<Cpf> cpfs = LongStream.range(0, 10_000).mapToObj(i -> new Cpf(10_000_000_000L + i * 7919)).toList();
+
+        // When
+        cpfs.parallelStream().forEach(this::registrarVoto);
+
+        // Then
+        assertThat(cpfs).allMatch(cpf -> filtro.talvezJaVotou(sessaoId, cpf));
+        assertThat(reconstrucoes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve manter taxa de falso positivo próxima da configurada")
+    void deveManterTaxaDeFalsoPositivoProximaDaConfigurada() {
+        // Given
+        abrirSessao();
+        LongStream.range(0, 10_000).forEach(i -> registrarVoto(new Cpf(10_000_000_000L + i)));
+
+        // When
+        long positivos = LongStream.range(0, 100_000)
+                .filter(i -> filtro.talvezJaVotou(sessaoId, new Cpf(50_000_000_000L + i)))
+                .count();
+
+        // Then
+        assertThat(positivos / 100_000.0).isLessThan(0.02);
+        assertThat(meterRegistry.get("votacao.voto.filtro.consultas").tag("resultado", "positivo").counter().count())
+                .isEqualTo(positivos);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o filtro a partir do banco em páginas, fora da thread do voto")
+    void deveReconstruirFiltroEmPaginas() {
+        // Given
+        List<Long> primeiraPagina = LongStream.range(0, 10_000).map(i -> 10_000_000_000L + i).boxed().toList();
+        Cpf jaVotou = Cpf.of("52998224725");
+        when(votoRepository.findValoresCpfBySessao(eq(sessaoId), eq(-1L), any(Limit.class))).thenReturn(primeiraPagina);
+        when(votoRepository.findValoresCpfBySessao(eq(sessaoId), eq(primeiraPagina.getLast()), any(Limit.class)))
+                .thenReturn(List.of(jaVotou.valor()));
+
+        // When: sem filtro em memória, a resposta não vem dele e a reconstrução é só agendada
+        boolean semFiltro = filtro.talvezJaVotou(sessaoId, jaVotou);
+        boolean indicadoSemFiltro = filtro.filtroIndicaVoto(sessaoId, jaVotou);
+        verify(votoRepository, never()).findValoresCpfBySessao(any(), anyLong(), any());
+        reconstrucoes.forEach(Runnable::run);
+
+        // Then
+        assertThat(semFiltro).isTrue();
+        assertThat(indicadoSemFiltro).isFalse();
+        assertThat(reconstrucoes).hasSize(1);
+        assertThat(filtro.filtroIndicaVoto(sessaoId, jaVotou)).isTrue();
+        assertThat(primeiraPagina).allMatch(cpf -> filtro.talvezJaVotou(sessaoId, new Cpf(cpf)));
+        verify(votoRepository, times(2)).findValoresCpfBySessao(eq(sessaoId), anyLong(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Deve incluir no filtro reconstruído o voto confirmado durante a leitura")
+    void deveIncluirVotoConfirmadoDuranteReconstrucao() {
+        // Given
+        Cpf votouDurante = Cpf.of("52998224725");
+        when(votoRepository.findValoresCpfBySessao(eq(sessaoId), eq(-1L), any(Limit.class))).thenAnswer(invocation -> {
+            registrarVoto(votouDurante);
+            return List.of();
+        });
+        filtro.talvezJaVotou(sessaoId, votouDurante);
+
+        // When
+        reconstrucoes.forEach(Runnable::run);
+
+        // Then
+        assertThat(filtro.filtroIndicaVoto(sessaoId, votouDurante)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve publicar o filtro reconstruído de sessão encerrada durante a leitura")
+    void naoDevePublicarFiltroDeSessaoEncerradaDuranteReconstrucao() {
+        // Given
+        when(votoRepository.findValoresCpfBySessao(eq(sessaoId), eq(-1L), any(Limit.class))).thenAnswer(invocation -> {
+            filtro.onSessoesEncerradas(new SessoesEncerradasEvent(List.of(sessaoId)));
+            return List.of();
+        });
+        filtro.talvezJaVotou(sessaoId, Cpf.of("52998224725"));
+
+        // When
+        reconstrucoes.forEach(Runnable::run);
+
+        // Then
+        assertThat(meterRegistry.get("votacao.voto.filtro.sessoes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o filtro quando a sessão é encerrada")
+    void deveDescartarFiltroQuandoSessaoEncerrada() {
+        // Given
+        abrirSessao();
+
+        // When
+        filtro.onSessoesEncerradas(new SessoesEncerradasEvent(List.of(sessaoId)));
+
+        // Then
+        assertThat(meterRegistry.get("votacao.voto.filtro.sessoes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve publicar a taxa de falso positivo observada")
+    void devePublicarTaxaDeFalsoPositivoObservada() {
+        // Given
+        abrirSessao();
+        filtro.talvezJaVotou(sessaoId, Cpf.of("52998224725"));
+        filtro.talvezJaVotou(sessaoId, Cpf.of("01234567890"));
+        filtro.talvezJaVotou(sessaoId, Cpf.of("11144477735"));
+
+        // When
+        filtro.registrarFalsoPositivo(sessaoId);
+
+        // Then
+        assertThat(meterRegistry.get("votacao.voto.filtro.taxa.falso.positivo").gauge().value())
+                .isEqualTo(0.25);
+    }
+
+    private void registrarVoto(Cpf cpf) {
+        filtro.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, cpf, OpcaoVoto.SIM));
+    }
+
+    private void abrirSessao() {
+        filtro.onSessaoAberta(new SessaoAbertaEvent(sessaoId, UUID.randomUUID(), "Pauta",
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(5)));
+    }
+}
@@ -0,0 +1,152 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.exception.SessaoFechadaException;
+import com.desafio.votacao.domain.exception.VotoJaRegistradoException;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "votacao.voto.ingestao.lote.enabled=true",
+        "votacao.voto.ingestao.lote.tamanho=50",
+        "votacao.voto.ingestao.lote.espera-maxima-ms=20"
+})
+@DisplayName("IngestaoVotosEmLote - Testes de Integração")
+class IngestaoVotosEmLoteIntegrationTest {
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private IngestaoVotosEmLote ingestao;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve gravar votos concorrentes em lotes e completar cada future")
+    void deveGravarVotosConcorrentesEmLotes() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+
+        // When
+        List<CompletableFuture<VotoResponse>> futures = IntStream.range(0, 120).parallel()
+                .mapToObj(i -> ingestao.registrar(request(sessao, GeradorCpf.proximo(),
+                        i % 3 == 0 ? OpcaoVoto.NAO : OpcaoVoto.SIM)))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().getId()).isNotNull());
+        assertThat(apuracaoRepository.findById(sessao.getId())).hasValueSatisfying(apuracao -> {
+            assertThat(apuracao.getTotalVotos()).isEqualTo(120L);
+            assertThat(apuracao.getVotosSim()).isEqualTo(80L);
+            assertThat(apuracao.getVotosNao()).isEqualTo(40L);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve completar com VotoJaRegistradoException quando CPF já votou")
+    void deveRejeitarVotoDuplicado() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String cpf = GeradorCpf.proximo();
+        ingestao.registrar(request(sessao, cpf, OpcaoVoto.SIM)).join();
+
+        // When
+        CompletableFuture<VotoResponse> duplicado = ingestao.registrar(request(sessao, cpf, OpcaoVoto.NAO));
+
+        // Then
+        assertThatThrownBy(duplicado::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(VotoJaRegistradoException.class);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar duplicados dentro do mesmo lote")
+    void deveRejeitarDuplicadosDentroDoMesmoLote() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String cpf = GeradorCpf.proximo();
+
+        // When
+        CompletableFuture<VotoResponse> primeiro = ingestao.registrar(request(sessao, cpf, OpcaoVoto.SIM));
+        CompletableFuture<VotoResponse> segundo = ingestao.registrar(request(sessao, cpf, OpcaoVoto.SIM));
+        CompletableFuture.allOf(primeiro, segundo).exceptionally(ex -> null).join();
+
+        // Then
+        assertThat(List.of(primeiro, segundo)).filteredOn(CompletableFuture::isCompletedExceptionally).hasSize(1);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Deve completar com SessaoFechadaException quando a sessão fecha antes da gravação do lote")
+    void deveRejeitarVotoDeSessaoEncerradaAntesDaGravacao() {
+        // Given: a sessão é encerrada depois da validação, com o voto já a caminho da fila
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpf(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status -> sessaoRepository.encerrar(List.of(sessao.getId())));
+            return true;
+        });
+
+        // When
+        CompletableFuture<VotoResponse> voto = ingestao.registrar(request(sessao, GeradorCpf.proximo(), OpcaoVoto.SIM));
+
+        // Then
+        assertThatThrownBy(voto::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(SessaoFechadaException.class);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isZero());
+    }
+
+    private RegistrarVotoRequest request(SessaoVotacaoResponse sessao, String cpf, OpcaoVoto opcao) {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(sessao.getId())
+                .cpf(cpf)
+                .opcao(opcao)
+                .build();
+    }
+}
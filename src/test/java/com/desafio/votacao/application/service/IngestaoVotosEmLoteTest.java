@@ -0,0 +1,115 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.exception.IngestaoSobrecarregadaException;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.support.GeradorCpf;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestaoVotosEmLote - Testes Unitários")
+class IngestaoVotosEmLoteTest {
+
+    @Mock
+    private VotoService votoService;
+
+    @Mock
+    private GravadorLoteVotos gravador;
+
+    private IngestaoVotosEmLote ingestao;
+
+    @BeforeEach
+    void setUp() {
+        // Lote de um voto sem espera: cada pedido é gravado sozinho
+        ingestao = new IngestaoVotosEmLote(votoService, gravador, 1, 0, 10);
+        when(votoService.prepararVoto(any())).thenAnswer(invocation -> {
+            RegistrarVotoRequest request = invocation.getArgument(0);
+            return new VotoPendente(request.getSessaoId(), Cpf.of(request.getCpf()), request.getOpcao());
+        });
+        ingestao.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ingestao.parar();
+    }
+
+    @Test
+    @DisplayName("Deve completar com erro os votos pendentes quando o escritor é interrompido")
+    void deveFalharPendentesQuandoEscritorInterrompido() {
+        // Given: o escritor é interrompido ao gravar o primeiro voto, com outros dois na fila
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(gravador.gravar(anyList())).thenAnswer(invocation -> {
+            liberar.await();
+            Thread.currentThread().interrupt();
+            List<VotoPendente> pendentes = invocation.getArgument(0);
+            return pendentes.stream()
+                    .map(pendente -> new GravadorLoteVotos.VotoGravado(pendente, UUID.randomUUID(),
+                            LocalDateTime.now(), GravadorLoteVotos.Situacao.REGISTRADO))
+                    .toList();
+        });
+        CompletableFuture<VotoResponse> primeiro = ingestao.registrar(request());
+        CompletableFuture<VotoResponse> segundo = ingestao.registrar(request());
+        CompletableFuture<VotoResponse> terceiro = ingestao.registrar(request());
+
+        // When
+        liberar.countDown();
+
+        // Then
+        primeiro.join();
+        assertThat(List.of(segundo, terceiro)).allSatisfy(future -> assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IngestaoSobrecarregadaException.class));
+    }
+
+    @Test
+    @DisplayName("Deve completar com erro o voto que ficou na fila após o término do escritor")
+    void deveFalharVotoQueFicouNaFilaAoParar() throws InterruptedException {
+        // Given: escritor interrompido; o voto seguinte fica na fila sem ninguém para gravá-lo
+        when(gravador.gravar(anyList())).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return List.of();
+        });
+        assertThatThrownBy(() -> ingestao.registrar(request()).join()).isInstanceOf(CompletionException.class);
+        CompletableFuture<VotoResponse> orfao = ingestao.registrar(request());
+
+        // When
+        ingestao.parar();
+
+        // Then
+        assertThatThrownBy(orfao::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IngestaoSobrecarregadaException.class);
+        assertThatThrownBy(() -> ingestao.registrar(request()))
+                .isInstanceOf(IngestaoSobrecarregadaException.class);
+    }
+
+    private RegistrarVotoRequest request() {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(UUID.randomUUID())
+                .cpf(GeradorCpf.proximo())
+                .opcao(OpcaoVoto.SIM)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.AbrirSessaoRequest;
+import com.desafio.votacao.application.dto.response.PaginaPautasResponse;
+import com.desafio.votacao.application.dto.response.PautaResponse;
+import com.desafio.votacao.domain.model.Pauta;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Banco próprio: a listagem percorre todas as pautas
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pautas;MODE=PostgreSQL",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("PautaService - Testes de Integração")
+class PautaServiceIntegrationTest {
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Deve percorrer as pautas por cursor com uma consulta por página")
+    void devePercorrerPautasPorCursor() {
+        // Given
+        List<UUID> ids = IntStream.range(0, 7).mapToObj(i -> criarPauta(i % 2 == 0).getId()).toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        List<PautaResponse> todas = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            statistics.clear();
+            PaginaPautasResponse pagina = pautaService.listar(null, cursor, 3);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            todas.addAll(pagina.getItens());
+            cursor = pagina.getProximoCursor();
+            paginas++;
+        } while (cursor != null);
+        List<PautaResponse> abertas = pautaService.listar(StatusSessao.ABERTA, null, 10).getItens();
+
+        // Then
+        assertThat(paginas).isEqualTo(3);
+        assertThat(todas).extracting(PautaResponse::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(todas).isSortedAccordingTo((a, b) -> b.getDataCriacao().compareTo(a.getDataCriacao()));
+        assertThat(abertas).hasSize(4)
+                .allSatisfy(pauta -> assertThat(pauta.getSessaoVotacao().getStatus()).isEqualTo(StatusSessao.ABERTA));
+    }
+
+    @Test
+    @DisplayName("Deve buscar pauta com sessão em uma única consulta sem carregar entidades")
+    void deveBuscarPautaComSessaoEmUmaUnicaConsulta() {
+        // Given
+        Pauta pauta = criarPauta(true);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PautaResponse response = pautaService.buscarPorId(pauta.getId());
+
+        // Then
+        assertThat(response.getSessaoVotacao().getStatus()).isEqualTo(StatusSessao.ABERTA);
+        assertThat(response.getSessaoVotacao().getPautaId()).isEqualTo(pauta.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Pauta criarPauta(boolean comSessao) {
+        Pauta pauta = pautaRepository.save(Pauta.builder()
+                .titulo("Pauta de listagem")
+                .descricao("Pauta criada pelos testes de listagem")
+                .build());
+        if (comSessao) {
+            sessaoService.abrirSessao(AbrirSessaoRequest.builder()
+                    .pautaId(pauta.getId())
+                    .duracaoSegundos(300)
+                    .build());
+        }
+        return pauta;
+    }
+}
@@ -1,10 +1,13 @@
 package com.desafio.votacao.application.service;
 
 import com.desafio.votacao.application.dto.request.CriarPautaRequest;
+import com.desafio.votacao.application.dto.response.PaginaPautasResponse;
 import com.desafio.votacao.application.dto.response.PautaResponse;
 import com.desafio.votacao.domain.exception.PautaNaoEncontradaException;
 import com.desafio.votacao.domain.model.Pauta;
+import com.desafio.votacao.domain.model.StatusSessao;
 import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.projection.PautaResumoProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -76,7 +79,9 @@ class PautaServiceTest {
     void deveBuscarPautaPorIdComSucesso() {
         // Given
         UUID pautaId = pautaSalva.getId();
-        when(pautaRepository.findById(pautaId)).thenReturn(Optional.of(pautaSalva));
+        when(pautaRepository.findResumoById(pautaId)).thenReturn(Optional.of(new PautaResumoProjection(pautaId,
+                pautaSalva.getTitulo(), pautaSalva.getDescricao(), pautaSalva.getDataCriacao(),
+                null, null, null, null, null)));
 
         // When
         PautaResponse response = pautaService.buscarPorId(pautaId);
@@ -86,7 +91,7 @@ class PautaServiceTest {
         assertThat(response.getId()).isEqualTo(pautaId);
         assertThat(response.getTitulo()).isEqualTo(pautaSalva.getTitulo());
 
-        verify(pautaRepository, times(1)).findById(pautaId);
+        verify(pautaRepository, times(1)).findResumoById(pautaId);
     }
 
     @Test
@@ -94,61 +99,70 @@ class PautaServiceTest {
     void deveLancarExcecaoQuandoPautaNaoEncontrada() {
         // Given
         UUID pautaId = UUID.randomUUID();
-        when(pautaRepository.findById(pautaId)).thenReturn(Optional.empty());
+        when(pautaRepository.findResumoById(pautaId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> pautaService.buscarPorId(pautaId))
                 .isInstanceOf(PautaNaoEncontradaException.class)
                 .hasMessageContaining(pautaId.toString());
 
-        verify(pautaRepository, times(1)).findById(pautaId);
+        verify(pautaRepository, times(1)).findResumoById(pautaId);
     }
 
     @Test
-    @DisplayName("Deve listar todas as pautas")
-    void deveListarTodasPautas() {
+    @DisplayName("Deve listar uma página de pautas com cursor para a próxima")
+    void deveListarPaginaDePautas() {
         // Given
-        Pauta pauta1 = Pauta.builder()
-                .id(UUID.randomUUID())
-                .titulo("Pauta 1")
-                .descricao("Descrição 1")
-                .dataCriacao(LocalDateTime.now())
-                .build();
-
-        Pauta pauta2 = Pauta.builder()
-                .id(UUID.randomUUID())
-                .titulo("Pauta 2")
-                .descricao("Descrição 2")
-                .dataCriacao(LocalDateTime.now())
-                .build();
-
-        when(pautaRepository.findAll()).thenReturn(Arrays.asList(pauta1, pauta2));
+        LocalDateTime agora = LocalDateTime.now();
+        List<PautaResumoProjection> pautas = List.of(
+                resumo("Pauta 3", agora),
+                resumo("Pauta 2", agora.minusMinutes(1)),
+                resumo("Pauta 1", agora.minusMinutes(2)));
+        when(pautaRepository.listarPagina(null, null, null, Limit.of(3))).thenReturn(pautas);
 
         // When
-        List<PautaResponse> response = pautaService.listarTodas();
+        PaginaPautasResponse response = pautaService.listar(null, null, 2);
 
         // Then
-        assertThat(response).isNotNull();
-        assertThat(response).hasSize(2);
-        assertThat(response.get(0).getTitulo()).isEqualTo("Pauta 1");
-        assertThat(response.get(1).getTitulo()).isEqualTo("Pauta 2");
-
-        verify(pautaRepository, times(1)).findAll();
+        assertThat(response.getItens()).extracting(PautaResponse::getTitulo).containsExactly("Pauta 3", "Pauta 2");
+        assertThat(response.getProximoCursor()).isNotNull();
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não houver pautas")
-    void deveRetornarListaVaziaQuandoNaoHouverPautas() {
+    @DisplayName("Deve continuar a listagem a partir do cursor")
+    void deveContinuarListagemAPartirDoCursor() {
         // Given
-        when(pautaRepository.findAll()).thenReturn(Arrays.asList());
+        LocalDateTime agora = LocalDateTime.now();
+        PautaResumoProjection ultima = resumo("Pauta 2", agora);
+        when(pautaRepository.listarPagina(null, null, null, Limit.of(2)))
+                .thenReturn(List.of(ultima, resumo("Pauta 1", agora)));
+        String cursor = pautaService.listar(null, null, 1).getProximoCursor();
+        when(pautaRepository.listarPagina(StatusSessao.ABERTA, agora, ultima.id(), Limit.of(2))).thenReturn(List.of());
 
         // When
-        List<PautaResponse> response = pautaService.listarTodas();
+        PaginaPautasResponse response = pautaService.listar(StatusSessao.ABERTA, cursor, 1);
 
         // Then
-        assertThat(response).isNotNull();
-        assertThat(response).isEmpty();
+        assertThat(response.getItens()).isEmpty();
+        assertThat(response.getProximoCursor()).isNull();
+        verify(pautaRepository).listarPagina(StatusSessao.ABERTA, agora, ultima.id(), Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido e tamanho de página fora do limite")
+    void deveRejeitarCursorETamanhoInvalidos() {
+        assertThatThrownBy(() -> pautaService.listar(null, "nao-e-um-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pautaService.listar(null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pautaService.listar(null, null, PautaService.TAMANHO_MAXIMO_PAGINA + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(pautaRepository);
+    }
 
-        verify(pautaRepository, times(1)).findAll();
+    private PautaResumoProjection resumo(String titulo, LocalDateTime dataCriacao) {
+        return new PautaResumoProjection(UUID.randomUUID(), titulo, "Descrição de " + titulo, dataCriacao,
+                null, null, null, null, null);
     }
 }
@@ -0,0 +1,181 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.AbrirSessaoRequest;
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.Pauta;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "votacao.apuracao.em-memoria.enabled=false"
+})
+@DisplayName("SessaoVotacaoService - Testes de Integração")
+class SessaoVotacaoServiceIntegrationTest {
+
+    // Evita que o job de fechamento dispare consultas durante a medição
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve manter totais materializados na mesma transação do voto")
+    void deveManterTotaisMaterializadosNaTransacaoDoVoto() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+
+        // When
+        registrarVotos(sessao, OpcaoVoto.SIM, 2);
+        registrarVotos(sessao, OpcaoVoto.NAO, 1);
+
+        // Then
+        assertThat(apuracaoRepository.findById(sessao.getId())).hasValueSatisfying(apuracao -> {
+            assertThat(apuracao.getTotalVotos()).isEqualTo(3L);
+            assertThat(apuracao.getVotosSim()).isEqualTo(2L);
+            assertThat(apuracao.getVotosNao()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve apurar resultado com uma única consulta ao banco")
+    void deveApurarResultadoComUmaUnicaConsulta() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        registrarVotos(sessao, OpcaoVoto.SIM, 3);
+        registrarVotos(sessao, OpcaoVoto.NAO, 2);
+        statistics.clear();
+
+        // When
+        ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
+
+        // Then
+        assertThat(response.getTotalVotos()).isEqualTo(5L);
+        assertThat(response.getVotosSim()).isEqualTo(3L);
+        assertThat(response.getVotosNao()).isEqualTo(2L);
+        assertThat(response.getTituloPauta()).isEqualTo("Pauta de integração");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve apurar sessão sem votos com uma única consulta ao banco")
+    void deveApurarSessaoSemVotosComUmaUnicaConsulta() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        statistics.clear();
+
+        // When
+        ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
+
+        // Then
+        assertThat(response.getTotalVotos()).isZero();
+        assertThat(response.getResultado()).isEqualTo("EMPATE");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve registrar voto sem consultar a sessão nem a duplicidade no banco")
+    void deveRegistrarVotoSemConsultarSessao() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        statistics.clear();
+
+        // When
+        registrarVotos(sessao, OpcaoVoto.SIM, 1);
+
+        // Then: somente o INSERT do voto e o UPDATE dos totais
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve abrir sessão sem carregar a pauta")
+    void deveAbrirSessaoSemCarregarPauta() {
+        // Given
+        Pauta pauta = pautaRepository.save(Pauta.builder()
+                .titulo("Pauta de integração")
+                .descricao("Pauta criada pelos testes de integração")
+                .build());
+        statistics.clear();
+
+        // When
+        SessaoVotacaoResponse sessao = sessaoService.abrirSessao(AbrirSessaoRequest.builder()
+                .pautaId(pauta.getId())
+                .duracaoSegundos(300)
+                .build());
+
+        // Then: a leitura da pauta e os INSERTs da sessão e da apuração
+        assertThat(sessao.getPautaId()).isEqualTo(pauta.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve buscar sessão com uma única consulta sem carregar entidades")
+    void deveBuscarSessaoComUmaUnicaConsulta() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        statistics.clear();
+
+        // When
+        SessaoVotacaoResponse response = sessaoService.buscarPorId(sessao.getId());
+
+        // Then
+        assertThat(response.getPautaId()).isEqualTo(sessao.getPautaId());
+        assertThat(response.getDuracaoSegundos()).isEqualTo(300);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void registrarVotos(SessaoVotacaoResponse sessao, OpcaoVoto opcao, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            votoService.registrarVoto(RegistrarVotoRequest.builder()
+                    .sessaoId(sessao.getId())
+                    .cpf(GeradorCpf.proximo())
+                    .opcao(opcao)
+                    .build());
+        }
+    }
+}
@@ -3,12 +3,17 @@ package com.desafio.votacao.application.service;
 import com.desafio.votacao.application.dto.request.AbrirSessaoRequest;
 import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
 import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
 import com.desafio.votacao.domain.exception.PautaNaoEncontradaException;
 import com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException;
 import com.desafio.votacao.domain.model.*;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
 import com.desafio.votacao.domain.repository.PautaRepository;
 import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
-import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.domain.repository.projection.ContagemVotosProjection;
+import com.desafio.votacao.domain.repository.projection.PautaResumoProjection;
+import com.desafio.votacao.domain.repository.projection.ResultadoSessaoProjection;
+import com.desafio.votacao.domain.repository.projection.SessaoResumoProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,9 +21,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,7 +46,13 @@ class SessaoVotacaoServiceTest {
     private PautaRepository pautaRepository;
 
     @Mock
-    private VotoRepository votoRepository;
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Mock
+    private ApuracaoEmTempoReal apuracaoEmTempoReal;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private SessaoVotacaoService sessaoService;
@@ -77,7 +91,8 @@ class SessaoVotacaoServiceTest {
     @DisplayName("Deve abrir sessão de votação com sucesso")
     void deveAbrirSessaoComSucesso() {
         // Given
-        when(pautaRepository.findById(pauta.getId())).thenReturn(Optional.of(pauta));
+        when(pautaRepository.findResumoById(pauta.getId())).thenReturn(Optional.of(resumoPauta(null)));
+        when(pautaRepository.getReferenceById(pauta.getId())).thenReturn(pauta);
         when(sessaoRepository.save(any(SessaoVotacao.class))).thenReturn(sessao);
 
         // When
@@ -90,8 +105,10 @@ class SessaoVotacaoServiceTest {
         assertThat(response.getStatus()).isEqualTo(StatusSessao.ABERTA);
         assertThat(response.getDuracaoSegundos()).isEqualTo(60);
 
-        verify(pautaRepository, times(1)).findById(pauta.getId());
+        verify(pautaRepository, times(1)).findResumoById(pauta.getId());
         verify(sessaoRepository, times(1)).save(any(SessaoVotacao.class));
+        verify(apuracaoRepository, times(1)).save(any(ApuracaoSessao.class));
+        verify(eventPublisher, times(1)).publishEvent(any(SessaoAbertaEvent.class));
     }
 
     @Test
@@ -102,7 +119,8 @@ class SessaoVotacaoServiceTest {
                 .pautaId(pauta.getId())
                 .build();
 
-        when(pautaRepository.findById(pauta.getId())).thenReturn(Optional.of(pauta));
+        when(pautaRepository.findResumoById(pauta.getId())).thenReturn(Optional.of(resumoPauta(null)));
+        when(pautaRepository.getReferenceById(pauta.getId())).thenReturn(pauta);
         when(sessaoRepository.save(any(SessaoVotacao.class))).thenReturn(sessao);
 
         // When
@@ -117,13 +135,13 @@ class SessaoVotacaoServiceTest {
     @DisplayName("Deve lançar exceção quando pauta não existe")
     void deveLancarExcecaoQuandoPautaNaoExiste() {
         // Given
-        when(pautaRepository.findById(pauta.getId())).thenReturn(Optional.empty());
+        when(pautaRepository.findResumoById(pauta.getId())).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> sessaoService.abrirSessao(validRequest))
                 .isInstanceOf(PautaNaoEncontradaException.class);
 
-        verify(pautaRepository, times(1)).findById(pauta.getId());
+        verify(pautaRepository, times(1)).findResumoById(pauta.getId());
         verify(sessaoRepository, never()).save(any());
     }
 
@@ -131,15 +149,14 @@ class SessaoVotacaoServiceTest {
     @DisplayName("Deve lançar exceção quando já existe sessão para a pauta")
     void deveLancarExcecaoQuandoJaExisteSessao() {
         // Given
-        pauta.setSessaoVotacao(sessao);
-        when(pautaRepository.findById(pauta.getId())).thenReturn(Optional.of(pauta));
+        when(pautaRepository.findResumoById(pauta.getId())).thenReturn(Optional.of(resumoPauta(sessao)));
 
         // When & Then
         assertThatThrownBy(() -> sessaoService.abrirSessao(validRequest))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Já existe uma sessão");
 
-        verify(pautaRepository, times(1)).findById(pauta.getId());
+        verify(pautaRepository, times(1)).findResumoById(pauta.getId());
         verify(sessaoRepository, never()).save(any());
     }
 
@@ -147,7 +164,7 @@ class SessaoVotacaoServiceTest {
     @DisplayName("Deve buscar sessão por ID com sucesso")
     void deveBuscarSessaoPorIdComSucesso() {
         // Given
-        when(sessaoRepository.findById(sessao.getId())).thenReturn(Optional.of(sessao));
+        when(sessaoRepository.findResumoById(sessao.getId())).thenReturn(Optional.of(resumoSessao()));
 
         // When
         SessaoVotacaoResponse response = sessaoService.buscarPorId(sessao.getId());
@@ -155,8 +172,9 @@ class SessaoVotacaoServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(sessao.getId());
+        assertThat(response.getPautaId()).isEqualTo(pauta.getId());
 
-        verify(sessaoRepository, times(1)).findById(sessao.getId());
+        verify(sessaoRepository, times(1)).findResumoById(sessao.getId());
     }
 
     @Test
@@ -164,23 +182,21 @@ class SessaoVotacaoServiceTest {
     void deveLancarExcecaoQuandoSessaoNaoEncontrada() {
         // Given
         UUID sessaoId = UUID.randomUUID();
-        when(sessaoRepository.findById(sessaoId)).thenReturn(Optional.empty());
+        when(sessaoRepository.findResumoById(sessaoId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> sessaoService.buscarPorId(sessaoId))
                 .isInstanceOf(SessaoVotacaoNaoEncontradaException.class);
 
-        verify(sessaoRepository, times(1)).findById(sessaoId);
+        verify(sessaoRepository, times(1)).findResumoById(sessaoId);
     }
 
     @Test
     @DisplayName("Deve obter resultado da votação com sucesso")
     void deveObterResultadoComSucesso() {
         // Given
-        when(sessaoRepository.findById(sessao.getId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.countBySessaoId(sessao.getId())).thenReturn(10L);
-        when(votoRepository.countBySessaoAndOpcao(sessao.getId(), OpcaoVoto.SIM)).thenReturn(7L);
-        when(votoRepository.countBySessaoAndOpcao(sessao.getId(), OpcaoVoto.NAO)).thenReturn(3L);
+        when(sessaoRepository.buscarResultado(sessao.getId()))
+                .thenReturn(Optional.of(resultado(7L, 3L)));
 
         // When
         ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
@@ -188,6 +204,8 @@ class SessaoVotacaoServiceTest {
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getSessaoId()).isEqualTo(sessao.getId());
+        assertThat(response.getPautaId()).isEqualTo(pauta.getId());
+        assertThat(response.getTituloPauta()).isEqualTo(pauta.getTitulo());
         assertThat(response.getTotalVotos()).isEqualTo(10L);
         assertThat(response.getVotosSim()).isEqualTo(7L);
         assertThat(response.getVotosNao()).isEqualTo(3L);
@@ -195,18 +213,17 @@ class SessaoVotacaoServiceTest {
         assertThat(response.getPercentualNao()).isEqualTo(30.0);
         assertThat(response.getResultado()).isEqualTo("APROVADA");
 
-        verify(sessaoRepository, times(1)).findById(sessao.getId());
-        verify(votoRepository, times(1)).countBySessaoId(sessao.getId());
+        verify(sessaoRepository, times(1)).buscarResultado(sessao.getId());
+        verify(sessaoRepository, never()).contarVotosPorOpcao(any());
+        verify(sessaoRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Deve retornar REJEITADA quando maioria votar NÃO")
     void deveRetornarRejeitadaQuandoMaioriaVotarNao() {
         // Given
-        when(sessaoRepository.findById(sessao.getId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.countBySessaoId(sessao.getId())).thenReturn(10L);
-        when(votoRepository.countBySessaoAndOpcao(sessao.getId(), OpcaoVoto.SIM)).thenReturn(3L);
-        when(votoRepository.countBySessaoAndOpcao(sessao.getId(), OpcaoVoto.NAO)).thenReturn(7L);
+        when(sessaoRepository.buscarResultado(sessao.getId()))
+                .thenReturn(Optional.of(resultado(3L, 7L)));
 
         // When
         ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
@@ -219,10 +236,8 @@ class SessaoVotacaoServiceTest {
     @DisplayName("Deve retornar EMPATE quando votos forem iguais")
     void deveRetornarEmpateQuandoVotosIguais() {
         // Given
-        when(sessaoRepository.findById(sessao.getId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.countBySessaoId(sessao.getId())).thenReturn(10L);
-        when(votoRepository.countBySessaoAndOpcao(sessao.getId(), OpcaoVoto.SIM)).thenReturn(5L);
-        when(votoRepository.countBySessaoAndOpcao(sessao.getId(), OpcaoVoto.NAO)).thenReturn(5L);
+        when(sessaoRepository.buscarResultado(sessao.getId()))
+                .thenReturn(Optional.of(resultado(5L, 5L)));
 
         // When
         ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
@@ -230,4 +245,100 @@ class SessaoVotacaoServiceTest {
         // Then
         assertThat(response.getResultado()).isEqualTo("EMPATE");
     }
+
+    @Test
+    @DisplayName("Deve retornar zero votos quando sessão ainda não recebeu votos")
+    void deveRetornarZeroVotosQuandoSessaoSemVotos() {
+        // Given
+        when(sessaoRepository.buscarResultado(sessao.getId()))
+                .thenReturn(Optional.of(resultado(0L, 0L)));
+
+        // When
+        ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
+
+        // Then
+        assertThat(response.getTotalVotos()).isZero();
+        assertThat(response.getVotosSim()).isZero();
+        assertThat(response.getVotosNao()).isZero();
+        assertThat(response.getResultado()).isEqualTo("EMPATE");
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao obter resultado de sessão inexistente")
+    void deveLancarExcecaoAoObterResultadoDeSessaoInexistente() {
+        // Given
+        UUID sessaoId = UUID.randomUUID();
+        when(sessaoRepository.buscarResultado(sessaoId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> sessaoService.obterResultado(sessaoId))
+                .isInstanceOf(SessaoVotacaoNaoEncontradaException.class);
+    }
+
+    @Test
+    @DisplayName("Deve obter resultado de sessão aberta pela apuração em memória")
+    void deveObterResultadoDeSessaoAbertaPelaApuracaoEmMemoria() {
+        // Given
+        ApuracaoEmTempoReal.Placar placar = mock(ApuracaoEmTempoReal.Placar.class);
+        when(placar.getSessaoId()).thenReturn(sessao.getId());
+        when(placar.getPautaId()).thenReturn(pauta.getId());
+        when(placar.getTituloPauta()).thenReturn(pauta.getTitulo());
+        when(placar.getDataAbertura()).thenReturn(sessao.getDataAbertura());
+        when(placar.getDataFechamento()).thenReturn(sessao.getDataFechamento());
+        when(placar.contagens()).thenReturn(Map.of(OpcaoVoto.SIM, 4L, OpcaoVoto.NAO, 6L));
+        when(apuracaoEmTempoReal.buscarPlacar(sessao.getId())).thenReturn(Optional.of(placar));
+
+        // When
+        ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
+
+        // Then
+        assertThat(response.getStatusSessao()).isEqualTo(StatusSessao.ABERTA);
+        assertThat(response.getTotalVotos()).isEqualTo(10L);
+        assertThat(response.getResultado()).isEqualTo("REJEITADA");
+
+        verify(sessaoRepository, never()).buscarResultado(any());
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar votos quando sessão não possui apuração materializada")
+    void deveContabilizarVotosQuandoSessaoSemApuracaoMaterializada() {
+        // Given
+        when(sessaoRepository.buscarResultado(sessao.getId()))
+                .thenReturn(Optional.of(resultado(null, null)));
+        when(sessaoRepository.contarVotosPorOpcao(sessao.getId()))
+                .thenReturn(List.of(contagem(OpcaoVoto.SIM, 2L), contagem(OpcaoVoto.NAO, 1L)));
+
+        // When
+        ResultadoVotacaoResponse response = sessaoService.obterResultado(sessao.getId());
+
+        // Then
+        assertThat(response.getTotalVotos()).isEqualTo(3L);
+        assertThat(response.getResultado()).isEqualTo("APROVADA");
+    }
+
+    private ResultadoSessaoProjection resultado(Long votosSim, Long votosNao) {
+        Long total = votosSim == null ? null : votosSim + votosNao;
+        return new ResultadoSessaoProjection(sessao.getId(), pauta.getId(), pauta.getTitulo(), sessao.getStatus(),
+                sessao.getDataAbertura(), sessao.getDataFechamento(), total, votosSim, votosNao);
+    }
+
+    private ContagemVotosProjection contagem(OpcaoVoto opcao, Long quantidade) {
+        return new ContagemVotosProjection(sessao.getId(), pauta.getId(), pauta.getTitulo(), sessao.getStatus(),
+                sessao.getDataAbertura(), sessao.getDataFechamento(), opcao, quantidade);
+    }
+
+    private PautaResumoProjection resumoPauta(SessaoVotacao sessaoExistente) {
+        return sessaoExistente == null
+                ? new PautaResumoProjection(pauta.getId(), pauta.getTitulo(), pauta.getDescricao(),
+                        pauta.getDataCriacao(), null, null, null, null, null)
+                : new PautaResumoProjection(pauta.getId(), pauta.getTitulo(), pauta.getDescricao(),
+                        pauta.getDataCriacao(), sessaoExistente.getId(), sessaoExistente.getDataAbertura(),
+                        sessaoExistente.getDataFechamento(), sessaoExistente.getStatus(),
+                        sessaoExistente.getDuracaoSegundos());
+    }
+
+    private SessaoResumoProjection resumoSessao() {
+        return new SessaoResumoProjection(sessao.getId(), pauta.getId(), sessao.getDataAbertura(),
+                sessao.getDataFechamento(), sessao.getStatus(), sessao.getDuracaoSegundos());
+    }
 }
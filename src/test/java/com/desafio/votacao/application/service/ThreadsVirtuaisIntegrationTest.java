@@ -0,0 +1,107 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executa votos concorrentes no executor da aplicação com threads virtuais habilitadas e
+ * confere, via JFR ({@code jdk.VirtualThreadPinned}), que o código da aplicação não fixa a
+ * thread virtual na portadora.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "votacao.cpf.validation.modo=fake"
+})
+@DisplayName("Threads virtuais - Testes de Integração")
+class ThreadsVirtuaisIntegrationTest {
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    @DisplayName("Deve registrar votos em threads virtuais sem pinning no código da aplicação")
+    void deveRegistrarVotosSemPinning() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        ConcurrentLinkedQueue<RecordedEvent> pinnings = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Boolean> virtuais = new ConcurrentLinkedQueue<>();
+
+        try (RecordingStream jfr = new RecordingStream()) {
+            jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            jfr.onEvent("jdk.VirtualThreadPinned", pinnings::add);
+            jfr.startAsync();
+
+            // When
+            List<CompletableFuture<Void>> votos = IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        virtuais.add(Thread.currentThread().isVirtual());
+                        try {
+                            votoService.registrarVoto(request(sessao));
+                        } catch (RuntimeException e) {
+                            // O cliente fake recusa CPFs aleatoriamente; só interessa o caminho do voto
+                        }
+                    }, applicationTaskExecutor))
+                    .toList();
+            CompletableFuture.allOf(votos.toArray(CompletableFuture[]::new)).join();
+            jfr.stop();
+        }
+
+        // Then
+        assertThat(virtuais).containsOnly(true);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isPositive());
+        assertThat(pinnings).filteredOn(ThreadsVirtuaisIntegrationTest::originadoNaAplicacao).isEmpty();
+    }
+
+    private static boolean originadoNaAplicacao(RecordedEvent evento) {
+        return evento.getStackTrace() != null && evento.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .anyMatch(metodo -> metodo.getType().getName().startsWith("com.desafio.votacao"));
+    }
+
+    private RegistrarVotoRequest request(SessaoVotacaoResponse sessao) {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(sessao.getId())
+                .cpf(GeradorCpf.proximo())
+                .opcao(OpcaoVoto.SIM)
+                .build();
+    }
+}
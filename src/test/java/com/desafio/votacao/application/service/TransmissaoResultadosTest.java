@@ -0,0 +1,327 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
+import com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.StatusSessao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransmissaoResultados - Testes Unitários")
+class TransmissaoResultadosTest {
+
+    private static final Cpf CPF = Cpf.of("52998224725");
+
+    @Mock
+    private SessaoVotacaoService sessaoService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransmissaoResultados transmissao;
+    private UUID sessaoId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transmissao = new TransmissaoResultados(sessaoService, meterRegistry, 60_000, 5_000, 2, 1_000);
+        sessaoId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transmissao.parar();
+    }
+
+    @Test
+    @DisplayName("Deve calcular o resultado uma única vez por tick para todos os assinantes")
+    void deveCalcularResultadoUmaVezPorTick() {
+        // Given
+        when(sessaoService.obterResultado(sessaoId)).thenReturn(resultado(StatusSessao.ABERTA));
+        IntStream.range(0, 100).forEach(i -> transmissao.assinar(sessaoId));
+
+        // When
+        IntStream.range(0, 500).parallel()
+                .forEach(i -> transmissao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.SIM)));
+        transmissao.publicar();
+
+        // Then: duas leituras por assinatura (consulta e conferência do encerramento) e uma única para a rajada
+        verify(sessaoService, times(201)).obterResultado(sessaoId);
+        assertThat(transmissao.assinantes(sessaoId)).isEqualTo(100);
+        assertThat(meterRegistry.get("votacao.resultado.stream.assinantes").gauge().value()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Não deve recalcular o resultado sem votos novos")
+    void naoDeveRecalcularSemVotosNovos() {
+        // Given
+        when(sessaoService.obterResultado(sessaoId)).thenReturn(resultado(StatusSessao.ABERTA));
+        transmissao.assinar(sessaoId);
+
+        // When
+        transmissao.onVotoRegistrado(new VotoRegistradoEvent(UUID.randomUUID(), CPF, OpcaoVoto.SIM));
+        transmissao.publicar();
+
+        // Then
+        verify(sessaoService, times(2)).obterResultado(sessaoId);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o resultado final e liberar os assinantes no encerramento")
+    void deveEncerrarTransmissao() {
+        // Given
+        when(sessaoService.obterResultado(sessaoId)).thenReturn(
+                resultado(StatusSessao.ABERTA), resultado(StatusSessao.ABERTA),
+                resultado(StatusSessao.ABERTA), resultado(StatusSessao.ABERTA),
+                resultado(StatusSessao.FECHADA));
+        transmissao.assinar(sessaoId);
+        transmissao.assinar(sessaoId);
+
+        // When
+        transmissao.onSessoesEncerradas(new SessoesEncerradasEvent(List.of(sessaoId)));
+        transmissao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.NAO));
+        transmissao.publicar();
+
+        // Then
+        verify(sessaoService, times(5)).obterResultado(sessaoId);
+        assertThat(transmissao.assinantes(sessaoId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o assinante lento sem atrasar o tick nem os demais assinantes")
+    void deveDescartarAssinanteLento() throws InterruptedException {
+        // Given: o primeiro assinante trava no envio; o segundo responde normalmente
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch lentoFinalizado = new CountDownLatch(1);
+        Semaphore eventosRapido = new Semaphore(0);
+        AtomicInteger criados = new AtomicInteger();
+        transmissao.parar();
+        transmissao = new TransmissaoResultados(sessaoService, meterRegistry, 60_000, 200, 2, 1_000) {
+            @Override
+            SseEmitter criarEmissor(long timeoutMs) {
+                return criados.getAndIncrement() == 0
+                        ? new EmissorTravado(liberar, lentoFinalizado)
+                        : new EmissorContador(eventosRapido);
+            }
+        };
+        when(sessaoService.obterResultado(sessaoId)).thenReturn(resultado(StatusSessao.ABERTA));
+
+        try {
+            transmissao.assinar(sessaoId);
+            transmissao.assinar(sessaoId);
+            assertThat(eventosRapido.tryAcquire(2, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            transmissao.onVotoRegistrado(new VotoRegistradoEvent(sessaoId, CPF, OpcaoVoto.SIM));
+            long inicio = System.nanoTime();
+            transmissao.publicar();
+            long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+            // Then: o tick não espera o assinante travado e o rápido recebe o resultado (se o envio
+            // anterior ainda estava terminando, o tick seguinte o entrega)
+            assertThat(decorridoMs).isLessThan(100);
+            boolean recebeu = eventosRapido.tryAcquire(50, TimeUnit.MILLISECONDS);
+            for (int tick = 0; !recebeu && tick < 20; tick++) {
+                transmissao.publicar();
+                recebeu = eventosRapido.tryAcquire(50, TimeUnit.MILLISECONDS);
+            }
+            assertThat(recebeu).isTrue();
+            assertThat(lentoFinalizado.await(2, TimeUnit.SECONDS)).isTrue();
+            // A conexão é fechada na thread do envio interrompido, em paralelo ao descarte do assinante
+            await(() -> transmissao.assinantes(sessaoId) == 1);
+        } finally {
+            liberar.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve liberar a thread do pool presa no envio quando o prazo vence")
+    void deveLiberarThreadPresaNoEnvio() throws InterruptedException {
+        // Given: uma única thread de envio, ocupada por um cliente que não consome os eventos
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch lentoFinalizado = new CountDownLatch(1);
+        Semaphore eventosRapido = new Semaphore(0);
+        AtomicInteger criados = new AtomicInteger();
+        transmissao.parar();
+        transmissao = new TransmissaoResultados(sessaoService, meterRegistry, 60_000, 200, 1, 1_000) {
+            @Override
+            SseEmitter criarEmissor(long timeoutMs) {
+                return criados.getAndIncrement() == 0
+                        ? new EmissorTravado(liberar, lentoFinalizado)
+                        : new EmissorContador(eventosRapido);
+            }
+        };
+        when(sessaoService.obterResultado(sessaoId)).thenReturn(resultado(StatusSessao.ABERTA));
+
+        try {
+            transmissao.assinar(sessaoId);
+
+            // When: o prazo do envio vence
+            assertThat(lentoFinalizado.await(2, TimeUnit.SECONDS)).isTrue();
+            transmissao.assinar(sessaoId);
+
+            // Then: a conexão travada foi fechada e a thread voltou a atender os demais
+            assertThat(eventosRapido.tryAcquire(2, TimeUnit.SECONDS)).isTrue();
+            await(() -> transmissao.assinantes(sessaoId) == 1);
+        } finally {
+            liberar.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento final à assinatura registrada depois do encerramento da sessão")
+    void deveEncerrarAssinaturaConcorrenteComEncerramento() {
+        // Given: a sessão fecha, e onSessoesEncerradas passa, entre a consulta e o registro do assinante
+        List<String> eventos = new CopyOnWriteArrayList<>();
+        transmissao.parar();
+        transmissao = new TransmissaoResultados(sessaoService, meterRegistry, 60_000, 5_000, 2, 1_000) {
+            @Override
+            SseEmitter criarEmissor(long timeoutMs) {
+                return new EmissorGravador(eventos);
+            }
+        };
+        when(sessaoService.obterResultado(sessaoId))
+                .thenReturn(resultado(StatusSessao.ABERTA), resultado(StatusSessao.FECHADA));
+
+        // When
+        transmissao.assinar(sessaoId);
+
+        // Then
+        assertThat(transmissao.assinantes(sessaoId)).isZero();
+        await(() -> eventos.contains("encerrada") && eventos.contains("complete"));
+        assertThat(eventos).doesNotContain("resultado");
+    }
+
+    @Test
+    @DisplayName("Não deve manter assinante de sessão já fechada")
+    void naoDeveManterAssinanteDeSessaoFechada() {
+        // Given
+        when(sessaoService.obterResultado(sessaoId)).thenReturn(resultado(StatusSessao.FECHADA));
+
+        // When
+        transmissao.assinar(sessaoId);
+
+        // Then
+        assertThat(transmissao.assinantes(sessaoId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve propagar sessão não encontrada")
+    void devePropagarSessaoNaoEncontrada() {
+        // Given
+        when(sessaoService.obterResultado(sessaoId)).thenThrow(new SessaoVotacaoNaoEncontradaException(sessaoId));
+
+        // When / Then
+        assertThatThrownBy(() -> transmissao.assinar(sessaoId))
+                .isInstanceOf(SessaoVotacaoNaoEncontradaException.class);
+        assertThat(transmissao.assinantes(sessaoId)).isZero();
+    }
+
+    private ResultadoVotacaoResponse resultado(StatusSessao status) {
+        return ResultadoVotacaoResponse.builder()
+                .sessaoId(sessaoId)
+                .statusSessao(status)
+                .totalVotos(0L)
+                .build();
+    }
+
+    /**
+     * Cliente que não consome os eventos: o envio fica preso até o teste liberar.
+     */
+    private static final class EmissorTravado extends SseEmitter {
+
+        private final CountDownLatch liberar;
+        private final CountDownLatch finalizado;
+
+        private EmissorTravado(CountDownLatch liberar, CountDownLatch finalizado) {
+            this.liberar = liberar;
+            this.finalizado = finalizado;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            finalizado.countDown();
+        }
+    }
+
+    private static void await(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atendida em 2s").isLessThan(limite);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Registra o nome de cada evento enviado e o fechamento da conexão.
+     */
+    private static final class EmissorGravador extends SseEmitter {
+
+        private final List<String> eventos;
+
+        private EmissorGravador(List<String> eventos) {
+            this.eventos = eventos;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String evento = builder.build().iterator().next().getData().toString();
+            eventos.add(evento.substring("event:".length(), evento.indexOf('\n')));
+        }
+
+        @Override
+        public void complete() {
+            eventos.add("complete");
+        }
+    }
+
+    private static final class EmissorContador extends SseEmitter {
+
+        private final Semaphore eventos;
+
+        private EmissorContador(Semaphore eventos) {
+            this.eventos = eventos;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            eventos.release();
+        }
+    }
+}
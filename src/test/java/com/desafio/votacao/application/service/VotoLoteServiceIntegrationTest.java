@@ -0,0 +1,242 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.ItemLoteVotoResponse;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.exception.ValidacaoCpfIndisponivelException;
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.ContagemVotos;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@DisplayName("VotoLoteService - Testes de Integração")
+class VotoLoteServiceIntegrationTest {
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private VotoLoteService votoLoteService;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve registrar lote com várias sessões e retornar status por item")
+    void deveRegistrarLoteComStatusPorItem() {
+        // Given
+        SessaoVotacaoResponse sessaoA = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        SessaoVotacaoResponse sessaoB = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String cpfRepetido = GeradorCpf.proximo();
+        String cpfNaoAutorizado = GeradorCpf.proximo();
+        when(cpfValidationClient.validarCpfAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(cpfValidationClient.validarCpfAsync(Cpf.of(cpfNaoAutorizado)))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        List<RegistrarVotoRequest> lote = new ArrayList<>();
+        lote.add(request(sessaoA.getId(), cpfRepetido, OpcaoVoto.SIM));
+        lote.add(request(sessaoB.getId(), cpfRepetido, OpcaoVoto.NAO));
+        lote.add(request(sessaoA.getId(), cpfRepetido, OpcaoVoto.NAO));
+        lote.add(request(sessaoA.getId(), "11111111112", OpcaoVoto.SIM));
+        lote.add(request(UUID.randomUUID(), GeradorCpf.proximo(), OpcaoVoto.SIM));
+        lote.add(request(sessaoB.getId(), cpfNaoAutorizado, OpcaoVoto.SIM));
+        lote.add(request(sessaoB.getId(), GeradorCpf.proximo(), OpcaoVoto.SIM));
+
+        // When
+        List<ItemLoteVotoResponse> itens = votoLoteService.registrarVotos(lote);
+
+        // Then
+        assertThat(itens).extracting(ItemLoteVotoResponse::getStatus).containsExactly(
+                ItemLoteVotoResponse.Status.REGISTRADO,
+                ItemLoteVotoResponse.Status.REGISTRADO,
+                ItemLoteVotoResponse.Status.DUPLICADO,
+                ItemLoteVotoResponse.Status.INVALIDO,
+                ItemLoteVotoResponse.Status.SESSAO_NAO_ENCONTRADA,
+                ItemLoteVotoResponse.Status.CPF_NAO_AUTORIZADO,
+                ItemLoteVotoResponse.Status.REGISTRADO);
+        assertThat(itens.get(0).getVotoId()).isNotNull();
+        assertThat(apuracaoRepository.findById(sessaoA.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+        assertThat(apuracaoRepository.findById(sessaoB.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como duplicado voto já registrado em outro lote")
+    void deveMarcarDuplicadoVotoDeLoteAnterior() {
+        // Given
+        when(cpfValidationClient.validarCpfAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String cpf = GeradorCpf.proximo();
+        votoLoteService.registrarVotos(List.of(request(sessao.getId(), cpf, OpcaoVoto.SIM)));
+
+        // When
+        List<ItemLoteVotoResponse> itens = votoLoteService.registrarVotos(
+                List.of(request(sessao.getId(), cpf, OpcaoVoto.NAO)));
+
+        // Then
+        assertThat(itens).extracting(ItemLoteVotoResponse::getStatus)
+                .containsExactly(ItemLoteVotoResponse.Status.DUPLICADO);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como sessão fechada o voto cuja sessão encerra durante a validação")
+    void deveMarcarSessaoFechadaQuandoEncerradaDuranteValidacao() {
+        // Given
+        SessaoVotacaoResponse aberta = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        SessaoVotacaoResponse encerrada = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpfAsync(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status -> sessaoRepository.encerrar(List.of(encerrada.getId())));
+            return CompletableFuture.completedFuture(true);
+        });
+
+        // When
+        List<ItemLoteVotoResponse> itens = votoLoteService.registrarVotos(List.of(
+                request(aberta.getId(), GeradorCpf.proximo(), OpcaoVoto.SIM),
+                request(encerrada.getId(), GeradorCpf.proximo(), OpcaoVoto.SIM)));
+
+        // Then
+        assertThat(itens).extracting(ItemLoteVotoResponse::getStatus).containsExactly(
+                ItemLoteVotoResponse.Status.REGISTRADO,
+                ItemLoteVotoResponse.Status.SESSAO_FECHADA);
+        assertThat(itens.get(1).getVotoId()).isNull();
+        assertThat(apuracaoRepository.findById(aberta.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+        assertThat(apuracaoRepository.findById(encerrada.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isZero());
+    }
+
+    @Test
+    @DisplayName("Deve dar às cópias de um CPF repetido no lote o status da primeira")
+    void deveDarACopiasRepetidasOStatusDaPrimeira() {
+        // Given
+        SessaoVotacaoResponse aberta = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        SessaoVotacaoResponse encerrada = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String cpfAberta = GeradorCpf.proximo();
+        String cpfEncerrada = GeradorCpf.proximo();
+        when(cpfValidationClient.validarCpfAsync(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status -> sessaoRepository.encerrar(List.of(encerrada.getId())));
+            return CompletableFuture.completedFuture(true);
+        });
+
+        // When
+        List<ItemLoteVotoResponse> itens = votoLoteService.registrarVotos(List.of(
+                request(encerrada.getId(), cpfEncerrada, OpcaoVoto.SIM),
+                request(aberta.getId(), cpfAberta, OpcaoVoto.SIM),
+                request(encerrada.getId(), cpfEncerrada, OpcaoVoto.NAO),
+                request(aberta.getId(), cpfAberta, OpcaoVoto.NAO)));
+
+        // Then
+        assertThat(itens).extracting(ItemLoteVotoResponse::getStatus).containsExactly(
+                ItemLoteVotoResponse.Status.SESSAO_FECHADA,
+                ItemLoteVotoResponse.Status.REGISTRADO,
+                ItemLoteVotoResponse.Status.SESSAO_FECHADA,
+                ItemLoteVotoResponse.Status.DUPLICADO);
+    }
+
+    @Test
+    @DisplayName("Deve desfazer os votos da sessão cuja apuração é finalizada durante a gravação")
+    void deveDesfazerVotosDeApuracaoFinalizada() {
+        // Given: a apuração é finalizada com a sessão ainda aberta, como no encerramento concorrente ao insert
+        SessaoVotacaoResponse aberta = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        SessaoVotacaoResponse finalizada = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpfAsync(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status ->
+                    apuracaoRepository.finalizar(List.of(finalizada.getId()), LocalDateTime.now()));
+            return CompletableFuture.completedFuture(true);
+        });
+
+        // When
+        List<ItemLoteVotoResponse> itens = votoLoteService.registrarVotos(List.of(
+                request(finalizada.getId(), GeradorCpf.proximo(), OpcaoVoto.SIM),
+                request(aberta.getId(), GeradorCpf.proximo(), OpcaoVoto.NAO),
+                request(finalizada.getId(), GeradorCpf.proximo(), OpcaoVoto.NAO)));
+
+        // Then
+        assertThat(itens).extracting(ItemLoteVotoResponse::getStatus).containsExactly(
+                ItemLoteVotoResponse.Status.SESSAO_FECHADA,
+                ItemLoteVotoResponse.Status.REGISTRADO,
+                ItemLoteVotoResponse.Status.SESSAO_FECHADA);
+        assertThat(ContagemVotos.naSessao(jdbcTemplate, finalizada.getId())).isZero();
+        assertThat(ContagemVotos.naSessao(jdbcTemplate, aberta.getId())).isEqualTo(1L);
+        assertThat(apuracaoRepository.findById(finalizada.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isZero());
+    }
+
+    @Test
+    @DisplayName("Deve marcar itens quando a validação de CPF está indisponível")
+    void deveMarcarItensQuandoValidacaoIndisponivel() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpfAsync(any())).thenReturn(CompletableFuture.failedFuture(
+                new ValidacaoCpfIndisponivelException("Serviço de validação de CPF indisponível (circuito aberto)")));
+
+        // When
+        List<ItemLoteVotoResponse> itens = votoLoteService.registrarVotos(
+                List.of(request(sessao.getId(), GeradorCpf.proximo(), OpcaoVoto.SIM)));
+
+        // Then
+        assertThat(itens).extracting(ItemLoteVotoResponse::getStatus)
+                .containsExactly(ItemLoteVotoResponse.Status.VALIDACAO_CPF_INDISPONIVEL);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isZero());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio")
+    void deveRejeitarLoteVazio() {
+        assertThatThrownBy(() -> votoLoteService.registrarVotos(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RegistrarVotoRequest request(UUID sessaoId, String cpf, OpcaoVoto opcao) {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(sessaoId)
+                .cpf(cpf)
+                .opcao(opcao)
+                .build();
+    }
+}
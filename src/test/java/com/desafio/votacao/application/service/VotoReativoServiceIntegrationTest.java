@@ -0,0 +1,172 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.ContagemVotos;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Perfil {@code reativo} de ponta a ponta: voto e resultado via WebFlux + R2DBC sobre o mesmo
+ * banco do JPA, que continua abrindo as sessões.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles({"dev", "reativo"})
+@DisplayName("VotoReativoService - Testes de Integração")
+class VotoReativoServiceIntegrationTest {
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(cpfValidationClient.validarCpfAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
+    }
+
+    @Test
+    @DisplayName("Deve registrar o voto e refletir no resultado")
+    void deveRegistrarVotoEObterResultado() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+
+        // When
+        VotoResponse voto = registrar(request(sessao, GeradorCpf.proximo()))
+                .expectStatus().isCreated()
+                .expectBody(VotoResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Then
+        assertThat(voto).isNotNull();
+        assertThat(voto.getSessaoId()).isEqualTo(sessao.getId());
+        assertThat(ContagemVotos.naSessao(jdbcTemplate, sessao.getId())).isEqualTo(1L);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getVotosSim()).isEqualTo(1L));
+
+        ResultadoVotacaoResponse resultado = webTestClient.get()
+                .uri("/api/v1/sessoes/{id}/resultado", sessao.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ResultadoVotacaoResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(resultado).isNotNull();
+        assertThat(resultado.getTotalVotos()).isEqualTo(1L);
+        assertThat(resultado.getResultado()).isEqualTo("APROVADA");
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 para o segundo voto do mesmo CPF")
+    void deveRejeitarVotoDuplicado() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String cpf = GeradorCpf.proximo();
+        registrar(request(sessao, cpf)).expectStatus().isCreated();
+
+        // When & Then
+        registrar(request(sessao, cpf))
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody().jsonPath("$.error").isEqualTo("Voto Duplicado");
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Deve responder 422 e não gravar quando a apuração é finalizada durante a validação do CPF")
+    void deveRejeitarVotoQuandoApuracaoFinalizada() {
+        // Given: o snapshot em cache ainda mostra a sessão aberta
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpfAsync(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status ->
+                    apuracaoRepository.finalizar(List.of(sessao.getId()), LocalDateTime.now()));
+            return CompletableFuture.completedFuture(true);
+        });
+
+        // When & Then
+        registrar(request(sessao, GeradorCpf.proximo()))
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(ContagemVotos.naSessao(jdbcTemplate, sessao.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 para CPF não autorizado e para sessão inexistente")
+    void deveResponderNaoEncontrado() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpfAsync(any())).thenReturn(CompletableFuture.completedFuture(false));
+
+        // When & Then
+        registrar(request(sessao, GeradorCpf.proximo()))
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").isEqualTo("CPF Inválido");
+        webTestClient.get()
+                .uri("/api/v1/sessoes/{id}/resultado", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+        assertThat(ContagemVotos.naSessao(jdbcTemplate, sessao.getId())).isZero();
+    }
+
+    private WebTestClient.ResponseSpec registrar(RegistrarVotoRequest request) {
+        return webTestClient.post()
+                .uri("/api/v1/votos")
+                .bodyValue(request)
+                .exchange();
+    }
+
+    private RegistrarVotoRequest request(SessaoVotacaoResponse sessao, String cpf) {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(sessao.getId())
+                .cpf(cpf)
+                .opcao(OpcaoVoto.SIM)
+                .build();
+    }
+}
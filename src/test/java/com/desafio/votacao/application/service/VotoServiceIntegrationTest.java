@@ -0,0 +1,188 @@
+package com.desafio.votacao.application.service;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.domain.exception.SessaoFechadaException;
+import com.desafio.votacao.domain.exception.VotoJaRegistradoException;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.ContagemVotos;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Simula um serviço de elegibilidade lento com um pool de conexões pequeno: como a consulta
+ * de CPF roda fora da transação, a latência dela não segura conexões do pool.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+@DisplayName("VotoService - Testes de Integração")
+class VotoServiceIntegrationTest {
+
+    private static final long LATENCIA_VALIDACAO_MS = 300;
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ConcurrentLinkedQueue<Integer> conexoesAtivasDuranteValidacao = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        when(cpfValidationClient.validarCpf(any())).thenAnswer(invocation -> {
+            conexoesAtivasDuranteValidacao.add(
+                    ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections());
+            Thread.sleep(LATENCIA_VALIDACAO_MS);
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve validar CPF sem conexão do pool em uso")
+    void deveValidarCpfSemConexaoEmUso() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+
+        // When
+        votoService.registrarVoto(request(sessao));
+
+        // Then
+        assertThat(conexoesAtivasDuranteValidacao).containsOnly(0);
+    }
+
+    @Test
+    @DisplayName("Deve registrar votos concorrentes com serviço de CPF lento e pool de 2 conexões")
+    void deveRegistrarVotosConcorrentesComServicoDeCpfLento() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+
+        // When: com a validação dentro da transação, 10 votos x 300ms esgotariam o pool em 250ms
+        long inicio = System.nanoTime();
+        List<CompletableFuture<Void>> votos = IntStream.range(0, 10)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> votoService.registrarVoto(request(sessao)), executor))
+                .toList();
+        CompletableFuture.allOf(votos.toArray(CompletableFuture[]::new)).join();
+        long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+        executor.shutdown();
+
+        // Then
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(10L));
+        assertThat(decorridoMs).isLessThan(10 * LATENCIA_VALIDACAO_MS);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o segundo voto do mesmo CPF sem alterar os totais")
+    void deveRejeitarVotoDuplicado() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        RegistrarVotoRequest request = request(sessao);
+        votoService.registrarVoto(request);
+
+        // When & Then
+        assertThatThrownBy(() -> votoService.registrarVoto(request))
+                .isInstanceOf(VotoJaRegistradoException.class);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar voto quando a sessão é encerrada durante a validação do CPF")
+    void deveRejeitarVotoQuandoSessaoEncerradaDuranteValidacao() {
+        // Given: o snapshot em cache ainda mostra a sessão aberta
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpf(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status -> sessaoRepository.encerrar(List.of(sessao.getId())));
+            return true;
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> votoService.registrarVoto(request(sessao)))
+                .isInstanceOf(SessaoFechadaException.class);
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isZero());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer o voto quando a apuração é finalizada antes do incremento")
+    void deveDesfazerVotoQuandoApuracaoFinalizada() {
+        // Given: a apuração é finalizada com a sessão ainda aberta, como no encerramento concorrente ao insert
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        when(cpfValidationClient.validarCpf(any())).thenAnswer(invocation -> {
+            transactionTemplate.executeWithoutResult(status ->
+                    apuracaoRepository.finalizar(List.of(sessao.getId()), LocalDateTime.now()));
+            return true;
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> votoService.registrarVoto(request(sessao)))
+                .isInstanceOf(SessaoFechadaException.class);
+        assertThat(ContagemVotos.naSessao(jdbcTemplate, sessao.getId())).isZero();
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isZero());
+    }
+
+    private RegistrarVotoRequest request(SessaoVotacaoResponse sessao) {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(sessao.getId())
+                .cpf(GeradorCpf.proximo())
+                .opcao(OpcaoVoto.SIM)
+                .build();
+    }
+}
@@ -2,13 +2,15 @@ package com.desafio.votacao.application.service;
 
 import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
 import com.desafio.votacao.application.dto.response.VotoResponse;
+import com.desafio.votacao.domain.event.VotoRegistradoEvent;
 import com.desafio.votacao.domain.exception.SessaoFechadaException;
 import com.desafio.votacao.domain.exception.SessaoVotacaoNaoEncontradaException;
 import com.desafio.votacao.domain.exception.VotoJaRegistradoException;
 import com.desafio.votacao.domain.exception.CpfInvalidoException;
 import com.desafio.votacao.domain.model.*;
-import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
 import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.domain.repository.projection.SessaoSnapshot;
 import com.desafio.votacao.infrastructure.client.CpfValidationClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -37,21 +41,36 @@ class VotoServiceTest {
     private VotoRepository votoRepository;
 
     @Mock
-    private SessaoVotacaoRepository sessaoRepository;
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Mock
+    private CacheSessoes cacheSessoes;
+
+    @Mock
+    private FiltroVotosSessao filtroVotos;
 
     @Mock
     private CpfValidationClient cpfValidationClient;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private VotoService votoService;
 
     private SessaoVotacao sessaoAberta;
     private Pauta pauta;
-    private Voto voto;
     private RegistrarVotoRequest validRequest;
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(apuracaoRepository.registrarVoto(any(), any())).thenReturn(1);
+
         pauta = Pauta.builder()
                 .id(UUID.randomUUID())
                 .titulo("Pauta Teste")
@@ -70,16 +89,8 @@ class VotoServiceTest {
 
         validRequest = RegistrarVotoRequest.builder()
                 .sessaoId(sessaoAberta.getId())
-                .cpf("12345678901")
-                .opcao(OpcaoVoto.SIM)
-                .build();
-
-        voto = Voto.builder()
-                .id(UUID.randomUUID())
-                .sessaoVotacao(sessaoAberta)
-                .cpfAssociado("12345678901")
+                .cpf("52998224725")
                 .opcao(OpcaoVoto.SIM)
-                .dataHora(LocalDateTime.now())
                 .build();
     }
 
@@ -87,41 +98,43 @@ class VotoServiceTest {
     @DisplayName("Deve registrar voto com sucesso")
     void deveRegistrarVotoComSucesso() {
         // Given
-        when(sessaoRepository.findById(sessaoAberta.getId())).thenReturn(Optional.of(sessaoAberta));
-        when(cpfValidationClient.validarCpf("12345678901")).thenReturn(true);
-        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901"))
-                .thenReturn(false);
-        when(votoRepository.save(any(Voto.class))).thenReturn(voto);
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.inserirSeSessaoAberta(any(UUID.class), eq(sessaoAberta.getId()),
+                eq(Cpf.of("52998224725")), eq(OpcaoVoto.SIM), any(LocalDateTime.class))).thenReturn(1);
 
         // When
         VotoResponse response = votoService.registrarVoto(validRequest);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getId()).isEqualTo(voto.getId());
+        assertThat(response.getId()).isNotNull();
         assertThat(response.getSessaoId()).isEqualTo(sessaoAberta.getId());
         assertThat(response.getOpcao()).isEqualTo(OpcaoVoto.SIM);
-        assertThat(response.getCpfMascarado()).isEqualTo("123.***.***-01");
-
-        verify(sessaoRepository, times(1)).findById(sessaoAberta.getId());
-        verify(cpfValidationClient, times(1)).validarCpf("12345678901");
-        verify(votoRepository, times(1)).existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901");
-        verify(votoRepository, times(1)).save(any(Voto.class));
+        assertThat(response.getCpfMascarado()).isEqualTo("529.***.***-25");
+        assertThat(response.getDataHora()).isNotNull();
+
+        verify(cacheSessoes, times(1)).buscar(sessaoAberta.getId());
+        verify(cpfValidationClient, times(1)).validarCpf(Cpf.of("52998224725"));
+        verify(votoRepository, never()).existsBySessaoVotacaoIdAndCpfAssociado(any(), any());
+        verify(apuracaoRepository, times(1)).registrarVoto(sessaoAberta.getId(), OpcaoVoto.SIM);
+        verify(eventPublisher, times(1))
+                .publishEvent(new VotoRegistradoEvent(sessaoAberta.getId(), Cpf.of("52998224725"), OpcaoVoto.SIM));
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando sessão não existe")
     void deveLancarExcecaoQuandoSessaoNaoExiste() {
         // Given
-        when(sessaoRepository.findById(sessaoAberta.getId())).thenReturn(Optional.empty());
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> votoService.registrarVoto(validRequest))
                 .isInstanceOf(SessaoVotacaoNaoEncontradaException.class);
 
-        verify(sessaoRepository, times(1)).findById(sessaoAberta.getId());
+        verify(cacheSessoes, times(1)).buscar(sessaoAberta.getId());
         verify(cpfValidationClient, never()).validarCpf(any());
-        verify(votoRepository, never()).save(any());
+        verifyNoInteractions(votoRepository);
     }
 
     @Test
@@ -137,11 +150,11 @@ class VotoServiceTest {
                 .duracaoSegundos(300)
                 .build();
 
-        when(sessaoRepository.findById(sessaoFechada.getId())).thenReturn(Optional.of(sessaoFechada));
+        when(cacheSessoes.buscar(sessaoFechada.getId())).thenReturn(Optional.of(snapshot(sessaoFechada)));
 
         RegistrarVotoRequest request = RegistrarVotoRequest.builder()
                 .sessaoId(sessaoFechada.getId())
-                .cpf("12345678901")
+                .cpf("52998224725")
                 .opcao(OpcaoVoto.SIM)
                 .build();
 
@@ -149,63 +162,65 @@ class VotoServiceTest {
         assertThatThrownBy(() -> votoService.registrarVoto(request))
                 .isInstanceOf(SessaoFechadaException.class);
 
-        verify(sessaoRepository, times(1)).findById(sessaoFechada.getId());
+        verify(cacheSessoes, times(1)).buscar(sessaoFechada.getId());
         verify(cpfValidationClient, never()).validarCpf(any());
-        verify(votoRepository, never()).save(any());
+        verifyNoInteractions(votoRepository);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando CPF não é válido")
     void deveLancarExcecaoQuandoCpfInvalido() {
         // Given
-        when(sessaoRepository.findById(sessaoAberta.getId())).thenReturn(Optional.of(sessaoAberta));
-        when(cpfValidationClient.validarCpf("12345678901"))
-                .thenThrow(new CpfInvalidoException("12345678901"));
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725")))
+                .thenThrow(new CpfInvalidoException(Cpf.of("52998224725")));
 
         // When & Then
         assertThatThrownBy(() -> votoService.registrarVoto(validRequest))
                 .isInstanceOf(CpfInvalidoException.class);
 
-        verify(sessaoRepository, times(1)).findById(sessaoAberta.getId());
-        verify(cpfValidationClient, times(1)).validarCpf("12345678901");
-        verify(votoRepository, never()).save(any());
+        verify(cacheSessoes, times(1)).buscar(sessaoAberta.getId());
+        verify(cpfValidationClient, times(1)).validarCpf(Cpf.of("52998224725"));
+        verifyNoInteractions(votoRepository);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando associado já votou")
     void deveLancarExcecaoQuandoAssociadoJaVotou() {
         // Given
-        when(sessaoRepository.findById(sessaoAberta.getId())).thenReturn(Optional.of(sessaoAberta));
-        when(cpfValidationClient.validarCpf("12345678901")).thenReturn(true);
-        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901"))
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.inserirSeSessaoAberta(any(UUID.class), eq(sessaoAberta.getId()),
+                eq(Cpf.of("52998224725")), eq(OpcaoVoto.SIM), any(LocalDateTime.class))).thenReturn(0);
+        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), Cpf.of("52998224725")))
                 .thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> votoService.registrarVoto(validRequest))
                 .isInstanceOf(VotoJaRegistradoException.class);
 
-        verify(sessaoRepository, times(1)).findById(sessaoAberta.getId());
-        verify(cpfValidationClient, times(1)).validarCpf("12345678901");
-        verify(votoRepository, times(1)).existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901");
-        verify(votoRepository, never()).save(any());
+        verify(votoRepository, times(1)).existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), Cpf.of("52998224725"));
+        verify(apuracaoRepository, never()).registrarVoto(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
-    @DisplayName("Deve tratar race condition ao salvar voto duplicado")
-    void deveTratarRaceConditionAoSalvarVotoDuplicado() {
+    @DisplayName("Deve lançar exceção quando a sessão fecha entre a validação e a gravação")
+    void deveLancarExcecaoQuandoSessaoFechaAntesDaGravacao() {
         // Given
-        when(sessaoRepository.findById(sessaoAberta.getId())).thenReturn(Optional.of(sessaoAberta));
-        when(cpfValidationClient.validarCpf("12345678901")).thenReturn(true);
-        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901"))
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.inserirSeSessaoAberta(any(UUID.class), eq(sessaoAberta.getId()),
+                eq(Cpf.of("52998224725")), eq(OpcaoVoto.SIM), any(LocalDateTime.class))).thenReturn(0);
+        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), Cpf.of("52998224725")))
                 .thenReturn(false);
-        when(votoRepository.save(any(Voto.class)))
-                .thenThrow(new DataIntegrityViolationException("Unique constraint violation"));
 
         // When & Then
         assertThatThrownBy(() -> votoService.registrarVoto(validRequest))
-                .isInstanceOf(VotoJaRegistradoException.class);
+                .isInstanceOf(SessaoFechadaException.class);
 
-        verify(votoRepository, times(1)).save(any(Voto.class));
+        verify(apuracaoRepository, never()).registrarVoto(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -214,22 +229,78 @@ class VotoServiceTest {
         // Given
         RegistrarVotoRequest requestComFormatacao = RegistrarVotoRequest.builder()
                 .sessaoId(sessaoAberta.getId())
-                .cpf("123.456.789-01")
+                .cpf("529.982.247-25")
                 .opcao(OpcaoVoto.NAO)
                 .build();
 
-        when(sessaoRepository.findById(sessaoAberta.getId())).thenReturn(Optional.of(sessaoAberta));
-        when(cpfValidationClient.validarCpf("12345678901")).thenReturn(true);
-        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901"))
-                .thenReturn(false);
-        when(votoRepository.save(any(Voto.class))).thenReturn(voto);
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.inserirSeSessaoAberta(any(UUID.class), eq(sessaoAberta.getId()),
+                eq(Cpf.of("52998224725")), eq(OpcaoVoto.NAO), any(LocalDateTime.class))).thenReturn(1);
 
         // When
         VotoResponse response = votoService.registrarVoto(requestComFormatacao);
 
         // Then
         assertThat(response).isNotNull();
-        verify(cpfValidationClient, times(1)).validarCpf("12345678901");
-        verify(votoRepository, times(1)).existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), "12345678901");
+        verify(cpfValidationClient, times(1)).validarCpf(Cpf.of("52998224725"));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar duplicidade antes do insert")
+    void naoDeveConsultarDuplicidadeAntesDoInsert() {
+        // Given
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.inserirSeSessaoAberta(any(UUID.class), eq(sessaoAberta.getId()),
+                eq(Cpf.of("52998224725")), eq(OpcaoVoto.SIM), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        votoService.registrarVoto(validRequest);
+
+        // Then
+        verify(votoRepository, never()).existsBySessaoVotacaoIdAndCpfAssociado(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar voto repetido apontado pelo filtro antes de validar o CPF")
+    void deveRejeitarVotoRepetidoApontadoPeloFiltro() {
+        // Given
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(filtroVotos.filtroIndicaVoto(sessaoAberta.getId(), Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), Cpf.of("52998224725")))
+                .thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> votoService.registrarVoto(validRequest))
+                .isInstanceOf(VotoJaRegistradoException.class);
+
+        verify(cpfValidationClient, never()).validarCpf(any());
+        verify(transactionTemplate, never()).execute(any());
+        verify(filtroVotos, never()).registrarFalsoPositivo(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o voto e contar o falso positivo quando o filtro erra")
+    void deveGravarVotoQuandoFiltroErra() {
+        // Given
+        when(cacheSessoes.buscar(sessaoAberta.getId())).thenReturn(Optional.of(snapshot(sessaoAberta)));
+        when(filtroVotos.filtroIndicaVoto(sessaoAberta.getId(), Cpf.of("52998224725"))).thenReturn(true);
+        when(cpfValidationClient.validarCpf(Cpf.of("52998224725"))).thenReturn(true);
+        when(votoRepository.inserirSeSessaoAberta(any(UUID.class), eq(sessaoAberta.getId()),
+                eq(Cpf.of("52998224725")), eq(OpcaoVoto.SIM), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        VotoResponse response = votoService.registrarVoto(validRequest);
+
+        // Then
+        assertThat(response.getId()).isNotNull();
+        verify(votoRepository, times(1)).existsBySessaoVotacaoIdAndCpfAssociado(sessaoAberta.getId(), Cpf.of("52998224725"));
+        verify(filtroVotos, times(1)).registrarFalsoPositivo(sessaoAberta.getId());
+    }
+
+    private SessaoSnapshot snapshot(SessaoVotacao sessao) {
+        return new SessaoSnapshot(sessao.getId(), sessao.getPauta().getId(),
+                sessao.getDataFechamento(), sessao.getStatus());
     }
 }
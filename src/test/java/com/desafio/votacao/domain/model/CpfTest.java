@@ -0,0 +1,70 @@
+package com.desafio.votacao.domain.model;
+
+import org.hibernate.validator.internal.constraintvalidators.hv.br.CPFValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cpf - Testes Unitários")
+class CpfTest {
+
+    @Test
+    @DisplayName("Deve converter CPF com e sem formatação para o mesmo valor")
+    void deveConverterCpfComESemFormatacao() {
+        assertThat(Cpf.of("529.982.247-25")).isEqualTo(Cpf.of("52998224725"));
+        assertThat(Cpf.of("52998224725").valor()).isEqualTo(52_998_224_725L);
+    }
+
+    @Test
+    @DisplayName("Deve preservar zeros à esquerda")
+    void devePreservarZerosAEsquerda() {
+        Cpf cpf = Cpf.of("012.345.678-90");
+
+        assertThat(cpf.valor()).isEqualTo(1_234_567_890L);
+        assertThat(cpf.digitos()).isEqualTo("01234567890");
+        assertThat(cpf.mascarado()).isEqualTo("012.***.***-90");
+    }
+
+    @Test
+    @DisplayName("Deve expor somente o CPF mascarado no toString")
+    void deveMascararNoToString() {
+        assertThat(Cpf.of("52998224725")).hasToString("529.***.***-25");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPF sem exatamente 11 dígitos")
+    void deveRejeitarCpfComQuantidadeErradaDeDigitos() {
+        assertThatThrownBy(() -> Cpf.of("5299822472")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cpf.of("529982247250")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cpf.of(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPF com dígitos verificadores inválidos ou repetidos")
+    void deveRejeitarDigitosVerificadoresInvalidos() {
+        assertThatThrownBy(() -> Cpf.of("529.982.247-26")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cpf.of("529.982.247-35")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cpf.of("111.111.111-11")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cpf.of("00000000000")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve concordar com a validação @CPF do Hibernate Validator")
+    void deveConcordarComValidadorDoHibernate() {
+        CPFValidator validador = new CPFValidator();
+        validador.initialize(null);
+
+        for (int i = 0; i < 20_000; i++) {
+            long valor = ThreadLocalRandom.current().nextLong(100_000_000_000L);
+            String digitos = new Cpf(valor).digitos();
+
+            assertThat(Cpf.digitosVerificadoresConferem(valor))
+                    .as(digitos)
+                    .isEqualTo(validador.isValid(digitos, null));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.desafio.votacao.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheDoisNiveis - Testes Unitários")
+class CacheDoisNiveisTest {
+
+    private static final String CACHE = "resultados";
+
+    private CacheCompartilhadoEmMemoria l2;
+    private CacheDoisNiveis instanciaA;
+    private CacheDoisNiveis instanciaB;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new CacheCompartilhadoEmMemoria();
+        instanciaA = instancia();
+        instanciaB = instancia();
+    }
+
+    @Test
+    @DisplayName("Deve calcular o valor compartilhável uma única vez entre as instâncias")
+    void deveCalcularUmaUnicaVezEntreInstancias() {
+        // Given
+        AtomicInteger calculos = new AtomicInteger();
+
+        // When
+        String a = instanciaA.get("sessao", () -> "FECHADA-" + calculos.incrementAndGet());
+        String b = instanciaB.get("sessao", () -> "FECHADA-" + calculos.incrementAndGet());
+
+        // Then
+        assertThat(a).isEqualTo("FECHADA-1");
+        assertThat(b).isEqualTo("FECHADA-1");
+        assertThat(calculos).hasValue(1);
+        assertThat(instanciaB.getNativeCache().getIfPresent("sessao")).isEqualTo("FECHADA-1");
+    }
+
+    @Test
+    @DisplayName("Deve promover para o L1 o valor gravado por outra instância")
+    void devePromoverValorDoL2() {
+        // Given
+        instanciaA.put("sessao", "FECHADA");
+
+        // When
+        var valor = instanciaB.get("sessao");
+
+        // Then
+        assertThat(valor).isNotNull();
+        assertThat(valor.get()).isEqualTo("FECHADA");
+        assertThat(instanciaB.getNativeCache().getIfPresent("sessao")).isEqualTo("FECHADA");
+    }
+
+    @Test
+    @DisplayName("Deve manter no L1 os valores que não são compartilháveis")
+    void deveManterValoresNaoCompartilhaveisNoL1() {
+        // When
+        instanciaA.put("sessao", "ABERTA");
+        instanciaA.evict("sessao");
+        instanciaA.put("sessao", "ABERTA");
+
+        // Then
+        assertThat(l2.buscar(CACHE, "sessao")).isNull();
+        assertThat(instanciaB.get("sessao")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o L1 das demais instâncias ao remover valor compartilhado")
+    void deveInvalidarL1DasDemaisInstancias() {
+        // Given
+        instanciaA.put("sessao", "FECHADA");
+        instanciaB.get("sessao");
+
+        // When
+        instanciaA.evict("sessao");
+
+        // Then
+        assertThat(l2.buscar(CACHE, "sessao")).isNull();
+        assertThat(instanciaB.getNativeCache().getIfPresent("sessao")).isNull();
+        assertThat(instanciaB.get("sessao")).isNull();
+    }
+
+    private CacheDoisNiveis instancia() {
+        return new CacheDoisNiveis(CACHE, Caffeine.newBuilder().build(), true, l2,
+                valor -> valor instanceof String s && s.startsWith("FECHADA"));
+    }
+}
@@ -0,0 +1,237 @@
+package com.desafio.votacao.infrastructure.client;
+
+import com.desafio.votacao.domain.exception.CpfInvalidoException;
+import com.desafio.votacao.domain.exception.ValidacaoCpfIndisponivelException;
+import com.desafio.votacao.domain.model.Cpf;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercita o cliente contra um servidor HTTP local que simula o serviço de elegibilidade,
+ * com latência e status de resposta controlados pelo teste.
+ */
+@DisplayName("CpfValidationClientHttp - Testes com servidor stub")
+class CpfValidationClientHttpTest {
+
+    private static final Cpf APTO = Cpf.of("52998224725");
+    private static final Cpf INAPTO = Cpf.of("01234567890");
+    private static final Cpf INEXISTENTE = Cpf.of("11144477735");
+
+    private HttpServer servidor;
+    private final AtomicInteger requisicoes = new AtomicInteger();
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final AtomicInteger picoEmAndamento = new AtomicInteger();
+    private final AtomicLong latenciaMs = new AtomicLong();
+    private final AtomicInteger statusForcado = new AtomicInteger();
+    private final Map<String, Long> latenciaPorCpf = new ConcurrentHashMap<>();
+    private final Map<String, Integer> statusPorCpf = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.setExecutor(Executors.newCachedThreadPool());
+        servidor.createContext("/users/", this::responder);
+        servidor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve interpretar ABLE_TO_VOTE, UNABLE_TO_VOTE e 404")
+    void deveInterpretarRespostas() {
+        CpfValidationClientHttp client = client(1000, 5);
+
+        assertThat(client.validarCpfAsync(APTO).join()).isTrue();
+        assertThat(client.validarCpfAsync(INAPTO).join()).isFalse();
+        assertThat(client.validarCpfAsync(INEXISTENTE).join()).isFalse();
+        assertThatThrownBy(() -> client.validarCpf(INAPTO)).isInstanceOf(CpfInvalidoException.class);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o veredicto em cache")
+    void deveReutilizarVeredictoEmCache() {
+        CpfValidationClientHttp client = client(1000, 5);
+
+        client.validarCpfAsync(APTO).join();
+        client.validarCpfAsync(APTO).join();
+        client.validarCpfAsync(APTO).join();
+
+        assertThat(requisicoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o prazo da chamada quando o serviço está lento")
+    void deveRespeitarPrazoDaChamada() {
+        CpfValidationClientHttp client = client(200, 5);
+        latenciaMs.set(2000);
+
+        long inicio = System.nanoTime();
+        assertThatThrownBy(() -> client.validarCpf(APTO)).isInstanceOf(ValidacaoCpfIndisponivelException.class);
+        long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertThat(decorridoMs).isLessThan(1500);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar falhas em cache")
+    void naoDeveGuardarFalhasEmCache() {
+        CpfValidationClientHttp client = client(1000, 5);
+        statusForcado.set(500);
+        assertThatThrownBy(() -> client.validarCpf(APTO)).isInstanceOf(ValidacaoCpfIndisponivelException.class);
+
+        statusForcado.set(0);
+
+        assertThat(client.validarCpf(APTO)).isTrue();
+        assertThat(requisicoes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuito após falhas consecutivas e rejeitar sem chamar o serviço")
+    void deveAbrirCircuitoAposFalhasConsecutivas() {
+        CpfValidationClientHttp client = client(1000, 3);
+        statusForcado.set(503);
+
+        for (int i = 0; i < 3; i++) {
+            Cpf cpf = new Cpf(10_000_000_000L + i);
+            assertThatThrownBy(() -> client.validarCpf(cpf)).isInstanceOf(ValidacaoCpfIndisponivelException.class);
+        }
+        statusForcado.set(0);
+
+        assertThatThrownBy(() -> client.validarCpf(APTO))
+                .isInstanceOf(ValidacaoCpfIndisponivelException.class)
+                .hasMessageContaining("circuito aberto");
+        assertThat(requisicoes).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar um lote maior que o limite de concorrência e atender todas as chamadas")
+    void deveEnfileirarLoteMaiorQueLimiteDeConcorrencia() {
+        // Given: 20 CPFs distintos disparados de uma vez, como no registro em lote, com limite de 3
+        CpfValidationClientHttp client = new CpfValidationClientHttp(new ObjectMapper(), url(),
+                2000, 300, 1000, 3, 5000, 100, 30000);
+        latenciaMs.set(50);
+
+        // When
+        List<CompletableFuture<Boolean>> chamadas = IntStream.range(0, 20)
+                .mapToObj(i -> client.validarCpfAsync(new Cpf(20_000_000_000L + i)))
+                .toList();
+
+        // Then
+        assertThat(chamadas).allSatisfy(chamada -> assertThat(chamada.join()).isTrue());
+        assertThat(requisicoes).hasValue(20);
+        assertThat(picoEmAndamento.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a chamada que não consegue vaga dentro da espera máxima")
+    void deveRejeitarChamadaSemVagaDentroDaEspera() {
+        // Given
+        CpfValidationClientHttp client = new CpfValidationClientHttp(new ObjectMapper(), url(),
+                2000, 300, 1000, 1, 100, 1, 30000);
+        latenciaMs.set(500);
+        CompletableFuture<Boolean> primeira = client.validarCpfAsync(new Cpf(20_000_000_000L));
+
+        // When & Then
+        assertThatThrownBy(() -> client.validarCpf(new Cpf(20_000_000_001L)))
+                .isInstanceOf(ValidacaoCpfIndisponivelException.class)
+                .hasMessageContaining("sem vaga");
+        assertThat(primeira.join()).isTrue();
+        assertThat(requisicoes).hasValue(1);
+
+        // A espera esgotada não conta como falha do serviço: o circuito continua fechado
+        assertThat(client.validarCpf(new Cpf(20_000_000_002L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve prender o circuito no semiaberto quando a chamada seguinte à espera não consegue vaga")
+    void naoDevePrenderCircuitoQuandoChamadaDeTesteEsperaVaga() throws InterruptedException {
+        // Given: duas vagas ocupadas por chamadas lentas enquanto o circuito abre com a falha de B
+        CpfValidationClientHttp client = new CpfValidationClientHttp(new ObjectMapper(), url(),
+                3000, 300, 1000, 2, 200, 1, 100);
+        Cpf lentaA = new Cpf(30_000_000_000L);
+        Cpf falha = new Cpf(30_000_000_001L);
+        Cpf lentaB = new Cpf(30_000_000_002L);
+        latenciaPorCpf.put(lentaA.digitos(), 1500L);
+        latenciaPorCpf.put(falha.digitos(), 100L);
+        statusPorCpf.put(falha.digitos(), 503);
+        latenciaPorCpf.put(lentaB.digitos(), 1500L);
+
+        CompletableFuture<Boolean> primeira = client.validarCpfAsync(lentaA);
+        CompletableFuture<Boolean> falhou = client.validarCpfAsync(falha);
+        // Aguarda na fila e herda a vaga liberada pela falha
+        CompletableFuture<Boolean> segunda = client.validarCpfAsync(lentaB);
+        assertThatThrownBy(falhou::join).hasCauseInstanceOf(ValidacaoCpfIndisponivelException.class);
+        Thread.sleep(150);
+
+        // When: a primeira chamada após a espera do circuito aberto fica sem vaga
+        assertThatThrownBy(() -> client.validarCpf(new Cpf(30_000_000_003L)))
+                .isInstanceOf(ValidacaoCpfIndisponivelException.class)
+                .hasMessageContaining("sem vaga");
+
+        // Then: a vez da chamada de teste não foi consumida pela espera esgotada
+        assertThatThrownBy(() -> client.validarCpf(new Cpf(30_000_000_004L)))
+                .isInstanceOf(ValidacaoCpfIndisponivelException.class)
+                .hasMessageContaining("sem vaga");
+        assertThat(requisicoes).hasValue(3);
+        assertThat(primeira.join()).isTrue();
+        assertThat(segunda.join()).isTrue();
+        assertThat(client.validarCpf(new Cpf(30_000_000_005L))).isTrue();
+    }
+
+    private CpfValidationClientHttp client(long timeoutMs, int falhasParaAbrir) {
+        return new CpfValidationClientHttp(new ObjectMapper(), url(),
+                timeoutMs, 300, 1000, 50, 2000, falhasParaAbrir, 30000);
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + servidor.getAddress().getPort() + "/users";
+    }
+
+    private void responder(HttpExchange exchange) throws IOException {
+        requisicoes.incrementAndGet();
+        picoEmAndamento.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+        String cpf = exchange.getRequestURI().getPath().substring("/users/".length());
+        try {
+            Thread.sleep(latenciaPorCpf.getOrDefault(cpf, latenciaMs.get()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            emAndamento.decrementAndGet();
+        }
+
+        int status = statusForcado.get() != 0 ? statusForcado.get()
+                : statusPorCpf.getOrDefault(cpf, cpf.equals(INEXISTENTE.digitos()) ? 404 : 200);
+        byte[] corpo = (status == 200
+                ? "{\"status\":\"" + (cpf.equals(INAPTO.digitos()) ? "UNABLE_TO_VOTE" : "ABLE_TO_VOTE") + "\"}"
+                : "{}").getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, corpo.length);
+        exchange.getResponseBody().write(corpo);
+        exchange.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.desafio.votacao.infrastructure.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Disjuntor - Testes unitários")
+class DisjuntorTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private final Disjuntor disjuntor = new Disjuntor(1, 100, 500, agora::get);
+
+    @Test
+    @DisplayName("Deve voltar a aberto quando a chamada de teste não informa o resultado no prazo")
+    void deveReabrirQuandoChamadaDeTesteExpira() {
+        // Given: circuito aberto e chamada de teste liberada após a espera
+        disjuntor.registrarFalha();
+        avancar(100);
+        assertThat(disjuntor.permitir()).isTrue();
+        assertThat(disjuntor.estado()).isEqualTo(Disjuntor.Estado.SEMI_ABERTO);
+        assertThat(disjuntor.permitir()).isFalse();
+
+        // When: a chamada de teste some sem registrar sucesso nem falha
+        avancar(500);
+
+        // Then
+        assertThat(disjuntor.estado()).isEqualTo(Disjuntor.Estado.ABERTO);
+        assertThat(disjuntor.rejeitando()).isTrue();
+        avancar(100);
+        assertThat(disjuntor.rejeitando()).isFalse();
+        assertThat(disjuntor.permitir()).isTrue();
+        disjuntor.registrarSucesso();
+        assertThat(disjuntor.estado()).isEqualTo(Disjuntor.Estado.FECHADO);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar sem consumir a chamada de teste enquanto o circuito está aberto")
+    void deveRejeitarSemConsumirChamadaDeTeste() {
+        // Given
+        disjuntor.registrarFalha();
+
+        // When & Then
+        assertThat(disjuntor.rejeitando()).isTrue();
+        avancar(100);
+        assertThat(disjuntor.rejeitando()).isFalse();
+        assertThat(disjuntor.estado()).isEqualTo(Disjuntor.Estado.ABERTO);
+        assertThat(disjuntor.permitir()).isTrue();
+    }
+
+    private void avancar(long ms) {
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+}
@@ -0,0 +1,89 @@
+package com.desafio.votacao.infrastructure.config;
+
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.application.service.SessaoVotacaoService;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.support.GeradorSessoes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Banco próprio e job periódico sem novas execuções: só a agenda fecha a sessão
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:agenda-encerramento;MODE=PostgreSQL",
+        "votacao.sessao.encerramento.intervalo-ms=3600000"
+})
+@DisplayName("AgendaEncerramentoSessoes - Testes de Integração")
+class AgendaEncerramentoSessoesIntegrationTest {
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    @DisplayName("Deve fechar a sessão no prazo sem esperar o job periódico")
+    void deveFecharSessaoNoPrazo() throws InterruptedException {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService, 1);
+
+        // When
+        StatusSessao status = aguardarEncerramento(sessao, sessao.getDataFechamento().plusSeconds(2));
+
+        // Then
+        assertThat(status).isEqualTo(StatusSessao.FECHADA);
+    }
+
+    @Test
+    @DisplayName("Deve fechar a sessão no prazo com o agendador compartilhado ocupado")
+    void deveFecharSessaoNoPrazoComAgendadorCompartilhadoOcupado() throws InterruptedException {
+        // Given: um job @Scheduled demorado ocupa a thread do agendador do Spring além do prazo
+        CountDownLatch liberar = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService, 1);
+
+        try {
+            // When
+            StatusSessao status = aguardarEncerramento(sessao, sessao.getDataFechamento().plusSeconds(1));
+
+            // Then
+            assertThat(status).isEqualTo(StatusSessao.FECHADA);
+        } finally {
+            liberar.countDown();
+        }
+    }
+
+    private StatusSessao aguardarEncerramento(SessaoVotacaoResponse sessao, LocalDateTime limite)
+            throws InterruptedException {
+        StatusSessao status = StatusSessao.ABERTA;
+        while (status == StatusSessao.ABERTA && LocalDateTime.now().isBefore(limite)) {
+            Thread.sleep(50);
+            status = sessaoRepository.findById(sessao.getId()).orElseThrow().getStatus();
+        }
+        return status;
+    }
+}
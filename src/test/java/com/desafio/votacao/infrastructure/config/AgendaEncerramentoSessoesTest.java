@@ -0,0 +1,109 @@
+package com.desafio.votacao.infrastructure.config;
+
+import com.desafio.votacao.domain.event.SessaoAbertaEvent;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AgendaEncerramentoSessoes - Testes Unitários")
+class AgendaEncerramentoSessoesTest {
+
+    @Mock
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Mock
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private AgendaEncerramentoSessoes agenda;
+    private LocalDateTime prazo;
+
+    @BeforeEach
+    void setUp() {
+        agenda = new AgendaEncerramentoSessoes(sessaoRepository, sessaoVotacaoScheduler, taskScheduler, 100);
+        // Início exato de uma fatia de 100ms
+        prazo = LocalDateTime.ofInstant(Instant.ofEpochMilli(4_102_444_800_000L), ZoneId.systemDefault());
+    }
+
+    @Test
+    @DisplayName("Deve agendar o encerramento logo após o prazo da sessão")
+    void deveAgendarLogoAposOPrazo() {
+        // When
+        agenda.onSessaoAberta(evento(prazo.plusNanos(30_000_000)));
+
+        // Then
+        ArgumentCaptor<Instant> instante = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(any(Runnable.class), instante.capture());
+        assertThat(instante.getValue()).isEqualTo(Instant.ofEpochMilli(4_102_444_800_100L));
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar uma execução entre sessões da mesma fatia")
+    void deveCompartilharExecucaoNaMesmaFatia() {
+        // When
+        agenda.onSessaoAberta(evento(prazo));
+        agenda.onSessaoAberta(evento(prazo.plusNanos(50_000_000)));
+        agenda.onSessaoAberta(evento(prazo.plusNanos(99_000_000)));
+        agenda.onSessaoAberta(evento(prazo.plusNanos(100_000_000)));
+
+        // Then
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(agenda.execucoesAgendadas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve encerrar as sessões vencidas e liberar a fatia na execução")
+    void deveEncerrarSessoesNaExecucao() {
+        // Given
+        agenda.onSessaoAberta(evento(prazo));
+        ArgumentCaptor<Runnable> tarefa = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(tarefa.capture(), any(Instant.class));
+
+        // When
+        tarefa.getValue().run();
+
+        // Then
+        verify(sessaoVotacaoScheduler).fecharSessoesExpiradas();
+        assertThat(agenda.execucoesAgendadas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir a agenda a partir das sessões abertas")
+    void deveReconstruirAgenda() {
+        // Given
+        when(sessaoRepository.findDatasFechamentoDeSessoesAbertas())
+                .thenReturn(List.of(prazo, prazo.plusNanos(10_000_000), prazo.plusSeconds(30)));
+
+        // When
+        agenda.reconstruir();
+
+        // Then
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private SessaoAbertaEvent evento(LocalDateTime dataFechamento) {
+        return new SessaoAbertaEvent(UUID.randomUUID(), UUID.randomUUID(), "Pauta",
+                dataFechamento.minusMinutes(1), dataFechamento);
+    }
+}
@@ -0,0 +1,174 @@
+package com.desafio.votacao.infrastructure.config;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.ResultadoVotacaoResponse;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.application.service.SessaoVotacaoService;
+import com.desafio.votacao.application.service.VotoService;
+import com.desafio.votacao.domain.event.SessoesEncerradasEvent;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.model.StatusSessao;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.persistence.ParticionamentoVotos;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Banco próprio, sem encerramento no prazo e sem novas execuções do job: só as chamadas do teste fecham sessões
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:encerramento;MODE=PostgreSQL",
+        "votacao.sessao.encerramento.intervalo-ms=3600000",
+        "votacao.sessao.encerramento.pontual.enabled=false",
+        "votacao.apuracao.em-memoria.enabled=false",
+        "votacao.sessao.encerramento.tamanho-lote=2"
+})
+@RecordApplicationEvents
+@DisplayName("SessaoVotacaoScheduler - Testes de Integração")
+class SessaoVotacaoSchedulerIntegrationTest {
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    // O H2 não particiona tabelas: só se verifica que o encerramento não arquiva
+    @MockitoBean
+    private ParticionamentoVotos particionamento;
+
+    @Autowired
+    private SessaoVotacaoScheduler scheduler;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve congelar o resultado no encerramento e dispensar a tabela de votos")
+    void deveCongelarResultadoNoEncerramento() throws InterruptedException {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService, 1);
+        registrarVotos(sessao, OpcaoVoto.SIM, 2);
+        registrarVotos(sessao, OpcaoVoto.NAO, 1);
+        aguardarExpiracao();
+
+        // When
+        scheduler.fecharSessoesExpiradas();
+        jdbcTemplate.update("DELETE FROM votos WHERE sessao_votacao_id = ?", sessao.getId());
+
+        // Then
+        assertThat(apuracaoRepository.findById(sessao.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getFinalizadaEm()).isNotNull());
+        ResultadoVotacaoResponse resultado = sessaoService.obterResultado(sessao.getId());
+        assertThat(resultado.getStatusSessao()).isEqualTo(StatusSessao.FECHADA);
+        assertThat(resultado.getTotalVotos()).isEqualTo(3L);
+        assertThat(resultado.getResultado()).isEqualTo("APROVADA");
+    }
+
+    @Test
+    @DisplayName("Deve criar a apuração final de sessão sem totais materializados")
+    void deveCriarApuracaoFinalDeSessaoSemTotais() throws InterruptedException {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService, 1);
+        registrarVotos(sessao, OpcaoVoto.SIM, 1);
+        registrarVotos(sessao, OpcaoVoto.NAO, 2);
+        jdbcTemplate.update("DELETE FROM apuracoes_sessao WHERE sessao_votacao_id = ?", sessao.getId());
+        aguardarExpiracao();
+
+        // When
+        scheduler.fecharSessoesExpiradas();
+
+        // Then
+        assertThat(apuracaoRepository.findById(sessao.getId())).hasValueSatisfying(apuracao -> {
+            assertThat(apuracao.getTotalVotos()).isEqualTo(3L);
+            assertThat(apuracao.getVotosSim()).isEqualTo(1L);
+            assertThat(apuracao.getVotosNao()).isEqualTo(2L);
+            assertThat(apuracao.getFinalizadaEm()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve fechar sessões expiradas em lotes e publicar os IDs de cada lote")
+    void deveFecharSessoesEmLotes() throws InterruptedException {
+        // Given
+        List<UUID> ids = IntStream.range(0, 5)
+                .mapToObj(i -> GeradorSessoes.abrir(pautaRepository, sessaoService, 1).getId())
+                .toList();
+        aguardarExpiracao();
+
+        // When
+        scheduler.fecharSessoesExpiradas();
+
+        // Then
+        List<SessoesEncerradasEvent> lotes = events.stream(SessoesEncerradasEvent.class).toList();
+        assertThat(lotes).hasSizeGreaterThanOrEqualTo(3)
+                .allSatisfy(lote -> assertThat(lote.sessaoIds()).hasSizeLessThanOrEqualTo(2));
+        assertThat(lotes.stream().flatMap(lote -> lote.sessaoIds().stream())).containsAll(ids);
+        assertThat(sessaoRepository.findAllById(ids))
+                .allSatisfy(sessao -> {
+                    assertThat(sessao.getStatus()).isEqualTo(StatusSessao.FECHADA);
+                    assertThat(sessao.getVersion()).isEqualTo(1L);
+                });
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar partições de votos no job de encerramento")
+    void naoDeveArquivarParticoesNoEncerramento() throws InterruptedException {
+        // Given
+        GeradorSessoes.abrir(pautaRepository, sessaoService, 1);
+        aguardarExpiracao();
+
+        // When
+        scheduler.fecharSessoesExpiradas();
+
+        // Then
+        verify(particionamento, never()).arquivar(any());
+    }
+
+    private void aguardarExpiracao() throws InterruptedException {
+        Thread.sleep(1100);
+    }
+
+    private void registrarVotos(SessaoVotacaoResponse sessao, OpcaoVoto opcao, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            votoService.registrarVoto(RegistrarVotoRequest.builder()
+                    .sessaoId(sessao.getId())
+                    .cpf(GeradorCpf.proximo())
+                    .opcao(opcao)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.desafio.votacao.infrastructure.persistence;
+
+import com.desafio.votacao.domain.model.Cpf;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.domain.repository.VotoRepository;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.ConsultasCapturadas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Confere com EXPLAIN que as consultas quentes, no SQL gerado pelos repositórios, usam os índices
+ * criados para elas nas migrações. Falha se uma mudança na consulta ou no schema fizer o banco
+ * trocar de índice ou voltar a varrer a tabela.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:indices;MODE=PostgreSQL",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.desafio.votacao.support.ConsultasCapturadas"
+})
+@DisplayName("Índices das consultas - Testes de Integração")
+class IndicesConsultasIntegrationTest {
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Contagem por opção deve ser respondida pelo índice (sessão, opção)")
+    void contagemPorOpcaoDeveUsarIndiceDeCobertura() {
+        String plano = plano(() -> sessaoRepository.contarVotosPorOpcao(UUID.randomUUID()));
+
+        assertThat(plano).contains("IDX_VOTO_SESSAO_OPCAO");
+    }
+
+    @Test
+    @DisplayName("Encerramento e agenda devem ler somente o índice das sessões abertas")
+    void encerramentoDeveUsarIndiceDasSessoesAbertas() {
+        String expiradas = plano(() -> transactionTemplate.executeWithoutResult(status ->
+                sessaoRepository.findIdsExpiradosParaEncerrar(LocalDateTime.now(), Limit.of(500))));
+        String prazos = plano(() -> sessaoRepository.findDatasFechamentoDeSessoesAbertas());
+
+        assertThat(expiradas).contains("IDX_SESSAO_ABERTA_FECHAMENTO");
+        assertThat(prazos).contains("IDX_SESSAO_ABERTA_FECHAMENTO");
+    }
+
+    @Test
+    @DisplayName("Verificações de duplicidade devem usar a restrição única (sessão, CPF)")
+    void duplicidadeDeveUsarRestricaoUnica() {
+        String individual = plano(() ->
+                votoRepository.existsBySessaoVotacaoIdAndCpfAssociado(UUID.randomUUID(), Cpf.of("52998224725")));
+        String lote = plano(() ->
+                votoRepository.findCpfsQueJaVotaram(UUID.randomUUID(), List.of(Cpf.of("52998224725"))));
+        String reconstrucaoFiltro = plano(() ->
+                votoRepository.findValoresCpfBySessao(UUID.randomUUID(), -1L, Limit.of(10_000)));
+
+        assertThat(individual).contains("UK_SESSAO_CPF");
+        assertThat(lote).contains("UK_SESSAO_CPF");
+        assertThat(reconstrucaoFiltro).contains("UK_SESSAO_CPF");
+    }
+
+    @Test
+    @DisplayName("Listagem de pautas deve percorrer o índice (data de criação, id)")
+    void listagemDePautasDeveUsarIndiceDoCursor() {
+        String plano = plano(() ->
+                pautaRepository.listarPagina(null, LocalDateTime.now(), UUID.randomUUID(), Limit.of(50)));
+
+        assertThat(plano).contains("IDX_PAUTA_DATA_CRIACAO_ID");
+    }
+
+    @Test
+    @DisplayName("Não deve manter índices redundantes na tabela de votos")
+    void naoDeveManterIndicesRedundantes() {
+        List<String> indices = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'VOTOS'", String.class);
+
+        assertThat(indices).doesNotContain("IDX_SESSAO_ID", "IDX_CPF_ASSOCIADO");
+    }
+
+    /**
+     * Executa a consulta do repositório e devolve o EXPLAIN do último SQL que ela gerou.
+     */
+    private String plano(Runnable consulta) {
+        ConsultasCapturadas.limpar();
+        consulta.run();
+        String sql = ConsultasCapturadas.ultima();
+        return jdbcTemplate.execute((java.sql.Connection conexao) -> {
+            try (var explain = conexao.prepareStatement("EXPLAIN " + sql);
+                 var resultado = explain.executeQuery()) {
+                resultado.next();
+                return resultado.getString(1);
+            }
+        });
+    }
+}
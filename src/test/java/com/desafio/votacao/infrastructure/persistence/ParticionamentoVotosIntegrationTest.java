@@ -0,0 +1,217 @@
+package com.desafio.votacao.infrastructure.persistence;
+
+import com.desafio.votacao.application.dto.request.RegistrarVotoRequest;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.application.service.SessaoVotacaoService;
+import com.desafio.votacao.application.service.VotoService;
+import com.desafio.votacao.domain.model.OpcaoVoto;
+import com.desafio.votacao.domain.repository.ApuracaoSessaoRepository;
+import com.desafio.votacao.domain.repository.PautaRepository;
+import com.desafio.votacao.domain.repository.SessaoVotacaoRepository;
+import com.desafio.votacao.infrastructure.client.CpfValidationClient;
+import com.desafio.votacao.infrastructure.config.SessaoVotacaoScheduler;
+import com.desafio.votacao.support.GeradorCpf;
+import com.desafio.votacao.support.GeradorSessoes;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DDL de partições no Postgres real: migração condicionada ao placeholder, criação na abertura da
+ * sessão e arquivamento com {@code DETACH PARTITION ... CONCURRENTLY}. Ignorado sem Docker.
+ */
+@SpringBootTest(properties = {
+        "votacao.sessao.encerramento.pontual.enabled=false",
+        "votacao.voto.particionamento.retencao-dias=1"
+})
+@ActiveProfiles("prod")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ParticionamentoVotos - Testes de Integração (Postgres)")
+class ParticionamentoVotosIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    private SessaoVotacaoScheduler sessaoVotacaoScheduler;
+
+    @MockitoBean
+    private CpfValidationClient cpfValidationClient;
+
+    @Autowired
+    private ParticionamentoVotos particionamento;
+
+    @Autowired
+    private SessaoVotacaoService sessaoService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoRepository;
+
+    @Autowired
+    private ApuracaoSessaoRepository apuracaoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Deve gravar os votos na partição criada na abertura da sessão")
+    void deveGravarVotosNaParticaoDaSessao() {
+        // Given
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+
+        // When
+        votoService.registrarVoto(request(sessao));
+
+        // Then
+        String particao = ParticionamentoVotos.nomeParticao(sessao.getId());
+        assertThat(particoesAnexadas()).contains(particao);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + particao, Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT partdefid::bigint FROM pg_partitioned_table "
+                + "WHERE partrelid = 'votos'::regclass", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve desanexar e mover para o arquivo as partições de sessões finalizadas antes da retenção")
+    void deveArquivarParticoesForaDaRetencao() {
+        // Given: uma sessão finalizada há dois dias e outra ainda dentro da retenção
+        SessaoVotacaoResponse antiga = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        SessaoVotacaoResponse recente = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        votoService.registrarVoto(request(antiga));
+        encerrar(antiga, LocalDateTime.now().minusDays(2));
+        encerrar(recente, LocalDateTime.now());
+
+        // When
+        int arquivadas = particionamento.arquivar(LocalDateTime.now());
+
+        // Then
+        assertThat(arquivadas).isGreaterThanOrEqualTo(1);
+        assertThat(particoesAnexadas())
+                .doesNotContain(ParticionamentoVotos.nomeParticao(antiga.getId()))
+                .contains(ParticionamentoVotos.nomeParticao(recente.getId()));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + ParticionamentoVotos.SCHEMA_ARQUIVO + "."
+                + ParticionamentoVotos.nomeParticao(antiga.getId()), Long.class)).isEqualTo(1L);
+        assertThat(apuracaoRepository.findById(antiga.getId()))
+                .hasValueSatisfying(apuracao -> assertThat(apuracao.getTotalVotos()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Deve concluir a desanexação interrompida e arquivar a partição")
+    void deveConcluirDesanexacaoPendente() throws SQLException {
+        // Given: o DETACH CONCURRENTLY desiste esperando uma transação que lê votos e fica pendente
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        encerrar(sessao, LocalDateTime.now());
+        String particao = ParticionamentoVotos.nomeParticao(sessao.getId());
+        try (Connection leitor = dataSource.getConnection(); Connection ddl = dataSource.getConnection()) {
+            leitor.setAutoCommit(false);
+            leitor.createStatement().execute("SELECT count(*) FROM votos");
+            try (Statement statement = ddl.createStatement()) {
+                statement.execute("SET lock_timeout = 200");
+                assertThatThrownBy(() -> statement.execute("ALTER TABLE votos DETACH PARTITION " + particao + " CONCURRENTLY"))
+                        .isInstanceOf(SQLException.class);
+                statement.execute("RESET lock_timeout");
+            }
+            leitor.commit();
+        }
+        assertThat(jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhdetachpending", String.class)).containsExactly(particao);
+
+        // When
+        particionamento.arquivar(LocalDateTime.now());
+
+        // Then
+        assertThat(particoesAnexadas()).doesNotContain(particao);
+        assertThat(tabelasNoArquivo()).contains(particao);
+    }
+
+    @Test
+    @DisplayName("Deve mover para o arquivo a partição desanexada que ficou fora dele")
+    void deveArquivarParticaoDesanexadaQueSobrou() {
+        // Given: falha entre o DETACH e o SET SCHEMA de uma execução anterior
+        SessaoVotacaoResponse sessao = GeradorSessoes.abrir(pautaRepository, sessaoService);
+        String particao = ParticionamentoVotos.nomeParticao(sessao.getId());
+        jdbcTemplate.execute("ALTER TABLE votos DETACH PARTITION " + particao);
+
+        // When
+        particionamento.arquivar(LocalDateTime.now());
+
+        // Then
+        assertThat(tabelasNoArquivo()).contains(particao);
+    }
+
+    @Test
+    @DisplayName("Não deve particionar votos com o particionamento desligado")
+    void naoDeveParticionarComParticionamentoDesligado() {
+        // When: as mesmas migrações em um schema novo, com o placeholder desligado
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas("sem_particionamento")
+                .locations("classpath:db/migration/comum", "classpath:db/migration/postgresql")
+                .placeholders(Map.of("particionamento", "false"))
+                .load()
+                .migrate();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM pg_partitioned_table "
+                + "WHERE partrelid = 'sem_particionamento.votos'::regclass", Long.class)).isZero();
+    }
+
+    private List<String> particoesAnexadas() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'votos'::regclass", String.class);
+    }
+
+    private List<String> tabelasNoArquivo() {
+        return jdbcTemplate.queryForList("SELECT tablename FROM pg_tables WHERE schemaname = ?",
+                String.class, ParticionamentoVotos.SCHEMA_ARQUIVO);
+    }
+
+    private void encerrar(SessaoVotacaoResponse sessao, LocalDateTime finalizadaEm) {
+        transactionTemplate.executeWithoutResult(status -> {
+            sessaoRepository.encerrar(List.of(sessao.getId()));
+            apuracaoRepository.finalizar(List.of(sessao.getId()), finalizadaEm);
+        });
+    }
+
+    private RegistrarVotoRequest request(SessaoVotacaoResponse sessao) {
+        return RegistrarVotoRequest.builder()
+                .sessaoId(sessao.getId())
+                .cpf(GeradorCpf.proximo())
+                .opcao(OpcaoVoto.SIM)
+                .build();
+    }
+}
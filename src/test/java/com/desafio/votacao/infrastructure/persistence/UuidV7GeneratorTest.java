@@ -0,0 +1,61 @@
+package com.desafio.votacao.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7Generator - Testes Unitários")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com variante RFC 9562")
+    void deveGerarUuidVersao7() {
+        UUID uuid = UuidV7Generator.gerar();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve codificar o instante de criação nos 48 bits mais altos")
+    void deveCodificarInstanteDeCriacao() {
+        long antes = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.gerar();
+        long depois = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(antes, depois + 1);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids estritamente crescentes na ordem de geração")
+    void deveGerarIdsCrescentes() {
+        List<UUID> gerados = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            gerados.add(UuidV7Generator.gerar());
+        }
+
+        // Compara como texto, que é a ordem do índice em colunas uuid/varchar
+        for (int i = 1; i < gerados.size(); i++) {
+            assertThat(gerados.get(i).toString()).isGreaterThan(gerados.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids únicos entre threads concorrentes")
+    void deveGerarIdsUnicosEntreThreads() {
+        Set<UUID> gerados = IntStream.range(0, 50_000).parallel()
+                .mapToObj(i -> UuidV7Generator.gerar())
+                .collect(HashSet::new, Set::add, Set::addAll);
+
+        assertThat(gerados).hasSize(50_000);
+    }
+}
@@ -0,0 +1,29 @@
+package com.desafio.votacao.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Guarda o SQL gerado pelo Hibernate, para os testes examinarem o plano das consultas reais.
+ * Registrado com {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class ConsultasCapturadas implements StatementInspector {
+
+    private static final List<String> CONSULTAS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        CONSULTAS.add(sql);
+        return sql;
+    }
+
+    public static void limpar() {
+        CONSULTAS.clear();
+    }
+
+    public static String ultima() {
+        return CONSULTAS.getLast();
+    }
+}
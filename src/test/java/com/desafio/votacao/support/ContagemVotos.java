@@ -0,0 +1,20 @@
+package com.desafio.votacao.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+/**
+ * Conta as linhas da tabela de votos de uma sessão, para os testes que conferem votos desfeitos
+ * independentemente dos totais materializados da apuração.
+ */
+public final class ContagemVotos {
+
+    private ContagemVotos() {
+    }
+
+    public static long naSessao(JdbcTemplate jdbcTemplate, UUID sessaoId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM votos WHERE sessao_votacao_id = ?", Long.class, sessaoId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.desafio.votacao.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera CPFs distintos com dígitos verificadores válidos para os testes de integração.
+ */
+public final class GeradorCpf {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(100_000_000L);
+
+    private GeradorCpf() {
+    }
+
+    public static String proximo() {
+        String base = String.format("%09d", SEQUENCIA.incrementAndGet());
+        int primeiroDigito = digitoVerificador(base, 10);
+        int segundoDigito = digitoVerificador(base + primeiroDigito, 11);
+        return base + primeiroDigito + segundoDigito;
+    }
+
+    private static int digitoVerificador(String digitos, int pesoInicial) {
+        int soma = 0;
+        for (int i = 0; i < digitos.length(); i++) {
+            soma += (digitos.charAt(i) - '0') * (pesoInicial - i);
+        }
+        int resto = (soma * 10) % 11;
+        return resto == 10 ? 0 : resto;
+    }
+}
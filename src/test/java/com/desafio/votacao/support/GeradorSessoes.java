@@ -0,0 +1,35 @@
+package com.desafio.votacao.support;
+
+import com.desafio.votacao.application.dto.request.AbrirSessaoRequest;
+import com.desafio.votacao.application.dto.response.SessaoVotacaoResponse;
+import com.desafio.votacao.application.service.SessaoVotacaoService;
+import com.desafio.votacao.domain.model.Pauta;
+import com.desafio.votacao.domain.repository.PautaRepository;
+
+/**
+ * Abre sessões de votação, cada uma em uma pauta nova, para os testes de integração.
+ */
+public final class GeradorSessoes {
+
+    private static final int DURACAO_PADRAO_SEGUNDOS = 300;
+
+    private GeradorSessoes() {
+    }
+
+    public static SessaoVotacaoResponse abrir(PautaRepository pautaRepository, SessaoVotacaoService sessaoService) {
+        return abrir(pautaRepository, sessaoService, DURACAO_PADRAO_SEGUNDOS);
+    }
+
+    public static SessaoVotacaoResponse abrir(PautaRepository pautaRepository, SessaoVotacaoService sessaoService,
+                                              int duracaoSegundos) {
+        Pauta pauta = pautaRepository.save(Pauta.builder()
+                .titulo("Pauta de integração")
+                .descricao("Pauta criada pelos testes de integração")
+                .build());
+
+        return sessaoService.abrirSessao(AbrirSessaoRequest.builder()
+                .pautaId(pauta.getId())
+                .duracaoSegundos(duracaoSegundos)
+                .build());
+    }
+}